@@ -1,75 +0,0 @@
-package com.insurai.insurai_backend.config;
-
-import java.io.IOException;
-import java.util.Collections;
-
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-
-@Component
-public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
-
-    private final JwtUtil jwtUtil;
-
-    public AdminJwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
-    }
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request,
-                                    HttpServletResponse response,
-                                    FilterChain filterChain)
-            throws ServletException, IOException {
-
-        String authHeader = request.getHeader("Authorization");
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-
-            try {
-                String email = jwtUtil.extractEmail(token);
-                String role = jwtUtil.extractRole(token);
-
-                if (email != null && SecurityContextHolder.getContext().getAuthentication() == null
-                        && "ADMIN".equalsIgnoreCase(role)) {
-
-                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_ADMIN");
-
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(email, null, Collections.singletonList(authority));
-
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
-
-            } catch (Exception e) {
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write("Invalid or expired admin token");
-                return;
-            }
-        }
-
-        filterChain.doFilter(request, response);
-    }
-
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getServletPath();
-        // Skip filter for public endpoints and non-admin paths
-        return path.startsWith("/auth/") ||
-               path.startsWith("/agent/") ||
-               path.startsWith("/employee/") ||
-               path.startsWith("/hr/") ||
-               path.startsWith("/uploads/") ||
-               path.startsWith("/api/files/") ||
-               path.startsWith("/admin/login") ||
-               path.startsWith("/admin/register");
-    }
-}
@@ -1,81 +0,0 @@
-package com.insurai.insurai_backend.config;
-
-import java.io.IOException;
-import java.util.Collections;
-
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-
-@Component
-public class EmployeeJwtAuthenticationFilter extends OncePerRequestFilter {
-
-    private final JwtUtil jwtUtil;
-
-    public EmployeeJwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
-    }
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request,
-                                    HttpServletResponse response,
-                                    FilterChain filterChain)
-            throws ServletException, IOException {
-
-        String authHeader = request.getHeader("Authorization");
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-
-            try {
-                String email = jwtUtil.extractEmail(token);
-                String role = jwtUtil.extractRole(token); // e.g., "EMPLOYEE"
-
-                if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // **Important:** Add "ROLE_" prefix for Spring Security
-                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role.toUpperCase());
-
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(email, null, Collections.singletonList(authority));
-
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
-            } catch (Exception e) {
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write("Invalid or expired token");
-                return;
-            }
-        }
-
-        filterChain.doFilter(request, response);
-    }
-
-@Override
-protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-    String path = request.getServletPath();
-
-    // Skip JWT filter for ALL public/auth endpoints
-    if (path.startsWith("/auth/") ||
-        path.startsWith("/admin/") ||
-        path.startsWith("/agent/login") ||
-        path.startsWith("/agent/register") ||
-        path.startsWith("/hr/login") ||
-        path.startsWith("/uploads/") ||
-        path.startsWith("/api/files/")) {
-        return true;
-    }
-
-    // Only apply this filter to employee-specific paths
-    return !path.startsWith("/employee")
-        && !path.startsWith("/claims") 
-        && !path.startsWith("/notifications/user");
-}
-
-}
@@ -1,80 +0,0 @@
-package com.insurai.insurai_backend.config;
-
-import java.io.IOException;
-import java.util.Collections;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
-
-@Component
-public class HrJwtAuthenticationFilter extends OncePerRequestFilter {
-
-    private static final Logger logger = LoggerFactory.getLogger(HrJwtAuthenticationFilter.class);
-    private final JwtUtil jwtUtil;
-
-    public HrJwtAuthenticationFilter(JwtUtil jwtUtil) {
-        this.jwtUtil = jwtUtil;
-    }
-
-    @Override
-    protected void doFilterInternal(HttpServletRequest request,
-                                    HttpServletResponse response,
-                                    FilterChain filterChain)
-            throws ServletException, IOException {
-
-        String authHeader = request.getHeader("Authorization");
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7).trim();
-
-            try {
-                String email = jwtUtil.extractEmail(token);
-                String role = jwtUtil.extractRole(token);
-
-                if (email != null && role != null &&
-                        SecurityContextHolder.getContext().getAuthentication() == null) {
-
-                    // Normalize role to uppercase to avoid case issues
-                    SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role.toUpperCase());
-
-                    UsernamePasswordAuthenticationToken authToken =
-                            new UsernamePasswordAuthenticationToken(email, null, Collections.singletonList(authority));
-
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    logger.debug("Authentication set for HR: {} with role: {}", email, role);
-                }
-
-            } catch (Exception e) {
-                logger.error("Invalid or expired token for request to {}: {}", request.getRequestURI(), e.getMessage());
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                response.getWriter().write("Invalid or expired token");
-                return;
-            }
-        }
-
-        filterChain.doFilter(request, response);
-    }
-
-    @Override
-    protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        // Skip filter for public endpoints and non-HR paths
-        String path = request.getServletPath();
-        return path.startsWith("/auth/") ||
-               path.startsWith("/admin/") ||
-               path.startsWith("/agent/") ||
-               path.startsWith("/employee/") ||
-               path.startsWith("/uploads/") ||
-               path.startsWith("/api/files/") ||
-               path.startsWith("/hr/login");
-    }
-}
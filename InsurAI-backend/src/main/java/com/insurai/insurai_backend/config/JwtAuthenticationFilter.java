@@ -0,0 +1,163 @@
+package com.insurai.insurai_backend.config;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.insurai.insurai_backend.model.Agent;
+import com.insurai.insurai_backend.service.AgentService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Single JWT authentication filter for every role.
+ * The request path picks a mode from a prefix table (longest prefix wins), the bearer token is
+ * verified once, and the SecurityContext gets the role from the token's claims.
+ */
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
+    private enum Mode {
+        SKIP,       // public endpoints: token ignored
+        ADMIN,      // invalid token rejected; only ADMIN tokens authenticate
+        AGENT_ONLY, // invalid token ignored; only registered agents authenticate
+        ANY_ROLE    // invalid token rejected; the token's role authenticates
+    }
+
+    private record PrefixRule(String prefix, Mode mode) {}
+
+    // Paths matching no prefix are ANY_ROLE. Sorted longest prefix first, so /admin/login wins over /admin/
+    private static final List<PrefixRule> RULES = List.of(
+            new PrefixRule("/auth/", Mode.SKIP),
+            new PrefixRule("/uploads/", Mode.SKIP),
+            new PrefixRule("/api/files/", Mode.SKIP),
+            new PrefixRule("/admin/login", Mode.SKIP),
+            new PrefixRule("/admin/register", Mode.SKIP),
+            new PrefixRule("/admin/", Mode.ADMIN),
+            new PrefixRule("/agent/login", Mode.SKIP),
+            new PrefixRule("/agent/register", Mode.SKIP),
+            new PrefixRule("/agent/queries/pending", Mode.SKIP),
+            new PrefixRule("/agent/availability", Mode.SKIP),
+            new PrefixRule("/agent/", Mode.AGENT_ONLY),
+            new PrefixRule("/hr/login", Mode.SKIP)
+    ).stream().sorted(Comparator.comparingInt((PrefixRule rule) -> rule.prefix().length()).reversed()).toList();
+
+    private final JwtUtil jwtUtil;
+    private final AgentService agentService;
+
+    private final Map<String, AtomicLong> authenticatedByRole = new ConcurrentHashMap<>();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong anonymous = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, AgentService agentService) {
+        this.jwtUtil = jwtUtil;
+        this.agentService = agentService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Mode mode = modeFor(request.getServletPath());
+        String authHeader = request.getHeader("Authorization");
+
+        if (mode == Mode.SKIP) {
+            skipped.incrementAndGet();
+        } else if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            anonymous.incrementAndGet();
+        } else {
+            String token = authHeader.substring(7).trim();
+            VerifiedToken verified;
+            try {
+                verified = jwtUtil.verify(token);
+                if (verified.role() == null && mode != Mode.AGENT_ONLY) {
+                    throw new IllegalArgumentException("Token has no role");
+                }
+            } catch (Exception e) {
+                rejected.incrementAndGet();
+                if (mode == Mode.AGENT_ONLY) {
+                    logger.debug("Invalid JWT for {}: {}", request.getRequestURI(), e.getMessage());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+                logger.warn("Invalid or expired token for request to {}: {}", request.getRequestURI(), e.getMessage());
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                response.getWriter().write(mode == Mode.ADMIN ? "Invalid or expired admin token" : "Invalid or expired token");
+                return;
+            }
+
+            request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
+            if (verified.subject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                authenticate(request, mode, verified);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Long> byRole = new LinkedHashMap<>();
+        authenticatedByRole.forEach((role, count) -> byRole.put(role, count.get()));
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("authenticatedByRole", byRole);
+        metrics.put("rejected", rejected.get());
+        metrics.put("anonymous", anonymous.get());
+        metrics.put("skipped", skipped.get());
+        return metrics;
+    }
+
+    private void authenticate(HttpServletRequest request, Mode mode, VerifiedToken verified) {
+        Object principal = verified.subject();
+        String role;
+        switch (mode) {
+            case ADMIN:
+                if (!"ADMIN".equalsIgnoreCase(verified.role())) return;
+                role = "ADMIN";
+                break;
+            case AGENT_ONLY:
+                Agent agent = agentService.findByEmail(verified.subject()).orElse(null);
+                if (agent == null) return;
+                principal = agent;
+                role = "AGENT";
+                break;
+            default:
+                role = verified.role().toUpperCase();
+        }
+
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        authenticatedByRole.computeIfAbsent(role, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static Mode modeFor(String path) {
+        for (PrefixRule rule : RULES) {
+            if (path.startsWith(rule.prefix())) return rule.mode();
+        }
+        return Mode.ANY_ROLE;
+    }
+}
@@ -1,10 +1,20 @@
 package com.insurai.insurai_backend.config;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,8 +26,20 @@ public class JwtUtil {
     // must be at least 256-bit for HS256
     private final long EXPIRATION_TIME = 86400000; // 1 day
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    // Key and parser are immutable and thread-safe, so they are built once
+    private final Key signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+
+    // Recently verified tokens keyed by SHA-256 of the token, so repeat calls skip the signature check
+    private final Map<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(@Value("${jwt.verified-cache.max-entries:10000}") int maxCachedTokens) {
+        this.verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxCachedTokens;
+            }
+        });
     }
 
     // Generate JWT token
@@ -27,18 +49,32 @@ public class JwtUtil {
                 .claim("role", role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verify the token's signature and expiry once and return its claims.
+     * Throws a JwtException if the token is malformed, tampered with or expired.
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = verifiedTokens.get(key);
+        if (cached != null) {
+            if (!cached.isExpired()) return cached;
+            // Expired since it was cached: re-parse so the caller gets the parser's ExpiredJwtException
+            verifiedTokens.remove(key);
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.get("role", String.class), claims.getExpiration());
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
     // Extract email from token
     public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return verify(token).subject();
     }
 
     // ------------------- Added for Agent JWT filter -------------------
@@ -48,31 +84,25 @@ public class JwtUtil {
 
     public boolean validateToken(String token, String email) {
         try {
-            String tokenEmail = extractEmail(token);
-            return (tokenEmail.equals(email) && !isTokenExpired(token));
+            VerifiedToken verified = verify(token);
+            return (verified.subject().equals(email) && !verified.isExpired());
         } catch (Exception e) {
             return false;
         }
     }
-
-    private boolean isTokenExpired(String token) {
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getExpiration();
-        return expiration.before(new Date());
-    }
     // -------------------------------------------------------------------
 
     // Extract role from token
     public String extractRole(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .get("role", String.class);
+        return verify(token).role();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
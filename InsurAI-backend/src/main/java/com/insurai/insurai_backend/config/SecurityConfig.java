@@ -1,5 +1,7 @@
 package com.insurai.insurai_backend.config;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,19 +15,10 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 public class SecurityConfig {
 
-    private final EmployeeJwtAuthenticationFilter employeeJwtAuthenticationFilter;
-    private final AgentJwtAuthenticationFilter agentJwtAuthenticationFilter;
-    private final HrJwtAuthenticationFilter hrJwtAuthenticationFilter;
-    private final AdminJwtAuthenticationFilter adminJwtAuthenticationFilter;
-
-    public SecurityConfig(EmployeeJwtAuthenticationFilter employeeJwtAuthenticationFilter,
-                          AgentJwtAuthenticationFilter agentJwtAuthenticationFilter,
-                          HrJwtAuthenticationFilter hrJwtAuthenticationFilter,
-                          AdminJwtAuthenticationFilter adminJwtAuthenticationFilter) {
-        this.employeeJwtAuthenticationFilter = employeeJwtAuthenticationFilter;
-        this.agentJwtAuthenticationFilter = agentJwtAuthenticationFilter;
-        this.hrJwtAuthenticationFilter = hrJwtAuthenticationFilter;
-        this.adminJwtAuthenticationFilter = adminJwtAuthenticationFilter;
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
     }
 
     @Bean
@@ -34,6 +27,9 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .cors(cors -> {}) // Keep global CORS
             .authorizeHttpRequests(auth -> auth
+                // Async re-dispatches (SSE streams, streamed exports) were authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Employee claim endpoints
                 .requestMatchers("/employee/claims/**").hasRole("EMPLOYEE")
                 .requestMatchers("/employee/queries/**").hasRole("EMPLOYEE")
@@ -110,11 +106,8 @@ public class SecurityConfig {
             .httpBasic(httpBasic -> httpBasic.disable())
             .formLogin(formLogin -> formLogin.disable());
 
-        // Add JWT filters in order
-        http.addFilterBefore(employeeJwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
-        http.addFilterBefore(agentJwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
-        http.addFilterBefore(hrJwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
-        http.addFilterBefore(adminJwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        // One JWT filter for all roles
+        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,16 @@
+package com.insurai.insurai_backend.config;
+
+import java.util.Date;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked.
+ * The JWT filters store it on the request under {@link #REQUEST_ATTRIBUTE}.
+ */
+public record VerifiedToken(String subject, String role, Date expiresAt) {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.before(new Date());
+    }
+}
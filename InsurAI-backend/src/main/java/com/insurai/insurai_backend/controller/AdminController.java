@@ -1,9 +1,21 @@
 package com.insurai.insurai_backend.controller;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,7 +26,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import com.insurai.insurai_backend.model.Agent;
 import com.insurai.insurai_backend.model.Employee;
@@ -23,21 +39,39 @@ import com.insurai.insurai_backend.repository.AgentRepository;
 import com.insurai.insurai_backend.repository.EmployeeRepository;
 import com.insurai.insurai_backend.repository.HrRepository;
 
+import com.insurai.insurai_backend.config.JwtAuthenticationFilter;
 import com.insurai.insurai_backend.config.JwtUtil;
 import com.insurai.insurai_backend.model.AuditLog;
 import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.ClaimSummary;
 import com.insurai.insurai_backend.model.LoginRequest;
 import com.insurai.insurai_backend.model.RegisterRequest;
 import com.insurai.insurai_backend.service.AdminService;
+import com.insurai.insurai_backend.service.AsyncFraudScoringService;
+import com.insurai.insurai_backend.service.AuditArchiveService;
 import com.insurai.insurai_backend.service.AuditLogService;
+import com.insurai.insurai_backend.service.ClaimDocumentStorageService;
 import com.insurai.insurai_backend.service.ClaimService;
+import com.insurai.insurai_backend.service.EmailOutboxService;
+import com.insurai.insurai_backend.service.FraudRescanService;
+import com.insurai.insurai_backend.service.FraudService;
+import com.insurai.insurai_backend.service.HrWorkloadRegistry;
+import com.insurai.insurai_backend.service.KeysetCursor;
+import com.insurai.insurai_backend.service.NotificationCounterService;
+import com.insurai.insurai_backend.service.NotificationHub;
+import com.insurai.insurai_backend.service.NotificationRetentionService;
+import com.insurai.insurai_backend.service.PolicyCatalogCache;
 import com.insurai.insurai_backend.service.PolicyService;
+import com.insurai.insurai_backend.service.job.ChunkedJobRunner;
 
 @RestController
 @RequestMapping("/admin")
 @CrossOrigin(origins = "http://localhost:5173") // React frontend
 public class AdminController {
 
+    private static final int MAX_CLAIMS_PAGE_SIZE = 500;
+    private static final int MAX_AUDIT_PAGE_SIZE = 500;
+
     @Autowired
     private AdminService adminService;
 
@@ -47,12 +81,54 @@ public class AdminController {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
     @Autowired
     private ClaimService claimService;
 
     @Autowired
     private AuditLogService auditLogService;
 
+    @Autowired
+    private AuditArchiveService auditArchiveService;
+
+    @Autowired
+    private FraudService fraudService;
+
+    @Autowired
+    private AsyncFraudScoringService asyncFraudScoringService;
+
+    @Autowired
+    private FraudRescanService fraudRescanService;
+
+    @Autowired
+    private ClaimDocumentStorageService claimDocumentStorageService;
+
+    @Autowired
+    private HrWorkloadRegistry hrWorkloadRegistry;
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private ChunkedJobRunner chunkedJobRunner;
+
+    @Autowired
+    private PolicyCatalogCache policyCatalogCache;
+
+    @Autowired
+    private NotificationHub notificationHub;
+
+    @Autowired
+    private NotificationCounterService notificationCounterService;
+
+    @Autowired
+    private NotificationRetentionService notificationRetentionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
@@ -259,12 +335,25 @@ public class AdminController {
             }
 
             hrRepository.deleteById(id);
+            hrWorkloadRegistry.hrRemoved(id);
             return ResponseEntity.ok("HR deleted successfully");
         } catch (Exception e) {
             return ResponseEntity.status(500).body("Error deleting HR: " + e.getMessage());
         }
     }
 
+    // -------------------- HR Workload --------------------
+    @GetMapping("/hr/workload")
+    public ResponseEntity<?> getHrWorkload(@RequestHeader(value = "Authorization") String authHeader) {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+        return ResponseEntity.ok(Map.of(
+                "pendingClaims", hrWorkloadRegistry.getPendingClaimCounts(),
+                "pendingEnrollments", hrWorkloadRegistry.getPendingEnrollmentCounts()
+        ));
+    }
+
     // -------------------- Update Agent Status --------------------
     @PutMapping("/agent/{id}/status")
     public ResponseEntity<?> updateAgentStatus(
@@ -341,15 +430,20 @@ public class AdminController {
         }
     }
 
-    // -------------------- Get All Claims --------------------
+    // -------------------- Get All Claims (paged with cursor/limit, whole list without) --------------------
     @GetMapping("/claims")
-    public ResponseEntity<?> getAllClaims(@RequestHeader(value = "Authorization") String authHeader) {
+    public ResponseEntity<?> getAllClaims(@RequestHeader(value = "Authorization") String authHeader,
+                                          @RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer limit) {
         try {
             if (!isAdminJwt(authHeader)) {
                 return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
             }
+            if (cursor != null || limit != null) {
+                return claimsPage(null, null, null, cursor, limit != null ? limit : 50);
+            }
 
-            List<Claim> claims = claimService.getAllClaims(); // Make sure this method exists in ClaimService
+            List<ClaimSummary> claims = claimService.getAllClaimSummaries();
             List<ClaimDTO> dtos = claims.stream()
                     .map(ClaimDTO::new)
                     .collect(Collectors.toList());
@@ -360,6 +454,76 @@ public class AdminController {
         }
     }
 
+    // -------------------- Claims Page (keyset) --------------------
+    @GetMapping("/claims/page")
+    public ResponseEntity<?> getClaimsPage(@RequestHeader(value = "Authorization") String authHeader,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "50") int limit,
+                                           @RequestParam(required = false) String status,
+                                           @RequestParam(required = false) Boolean fraud,
+                                           @RequestParam(required = false) Long hrId) {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+        return claimsPage(status, fraud, hrId, cursor, limit);
+    }
+
+    // {items, nextCursor} keyset page shared by the paged claim listings
+    private ResponseEntity<?> claimsPage(String status, Boolean fraud, Long hrId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_CLAIMS_PAGE_SIZE));
+        List<Claim> claims;
+        try {
+            claims = claimService.getClaimsPage(status, fraud, hrId, cursor, pageSize);
+        } catch (Exception e) {
+            return ResponseEntity.status(400).body("Error fetching claims: " + e.getMessage());
+        }
+
+        try {
+            Map<Long, List<String>> documents = claimService.getDocumentPaths(claims);
+            List<ClaimDTO> dtos = claims.stream()
+                    .map(claim -> new ClaimDTO(claim, documents.getOrDefault(claim.getId(), List.of())))
+                    .collect(Collectors.toList());
+
+            String nextCursor = claims.size() < pageSize ? null : ClaimService.nextCursor(claims.get(claims.size() - 1));
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("items", dtos);
+            response.put("nextCursor", nextCursor);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body("Error fetching claims: " + e.getMessage());
+        }
+    }
+
+    // -------------------- Claims Export (NDJSON) --------------------
+    @GetMapping("/claims/export")
+    public ResponseEntity<?> exportClaims(@RequestHeader(value = "Authorization") String authHeader,
+                                          @RequestParam(required = false) String status,
+                                          @RequestParam(required = false) Boolean fraud,
+                                          @RequestParam(required = false) Long hrId) {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+
+        // One JSON object per line, written as each page is read
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            claimService.exportClaims(status, fraud, hrId, (claim, documents) -> {
+                try {
+                    writer.write(objectMapper.writeValueAsString(new ClaimDTO(claim, documents)));
+                    writer.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"claims.ndjson\"")
+                .body(body);
+    }
+
     // -------------------- JWT Validation Helper --------------------
     private boolean isAdminJwt(String authHeader) {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
@@ -370,18 +534,20 @@ public class AdminController {
         return false;
     }
 
-// ================= Get All Fraud-Flagged Claims (Admin) =================
+// ================= Get All Fraud-Flagged Claims (Admin; paged with cursor/limit) =================
 @GetMapping("/claims/fraud")
-public ResponseEntity<?> getFraudClaimsAdmin(@RequestHeader(value = "Authorization") String authHeader) {
+public ResponseEntity<?> getFraudClaimsAdmin(@RequestHeader(value = "Authorization") String authHeader,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer limit) {
     try {
         if (!isAdminJwt(authHeader)) {
             return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
         }
+        if (cursor != null || limit != null) {
+            return claimsPage(null, true, null, cursor, limit != null ? limit : 50);
+        }
 
-        List<Claim> claims = claimService.getAllClaims()
-                .stream()
-                .filter(Claim::isFraud) // only fraud-flagged
-                .collect(Collectors.toList());
+        List<ClaimSummary> claims = claimService.getFraudClaimSummaries();
 
         List<ClaimDTO> dtos = claims.stream()
                 .map(ClaimDTO::new)
@@ -393,6 +559,190 @@ public ResponseEntity<?> getFraudClaimsAdmin(@RequestHeader(value = "Authorizati
     }
 }
 
+// ================= Fraud Rule Configuration =================
+@GetMapping("/fraud/rules")
+public ResponseEntity<?> getFraudRules(@RequestHeader(value = "Authorization") String authHeader) {
+    try {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+        return ResponseEntity.ok(fraudService.getRuleConfiguration());
+    } catch (Exception e) {
+        return ResponseEntity.status(500).body("Error fetching fraud rules: " + e.getMessage());
+    }
+}
+
+@PutMapping("/fraud/rules/{ruleCode}")
+public ResponseEntity<?> updateFraudRule(
+        @RequestHeader(value = "Authorization") String authHeader,
+        @PathVariable String ruleCode,
+        @RequestBody Map<String, Object> body) {
+    try {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+        String adminEmail = jwtUtil.extractEmail(authHeader.substring(7).trim());
+
+        Boolean enabled = body.get("enabled") != null ? Boolean.valueOf(body.get("enabled").toString()) : null;
+        Double score = body.get("score") != null ? Double.valueOf(body.get("score").toString()) : null;
+        Double threshold = body.get("threshold") != null ? Double.valueOf(body.get("threshold").toString()) : null;
+        Integer windowDays = body.get("windowDays") != null ? Integer.valueOf(body.get("windowDays").toString()) : null;
+
+        return ResponseEntity.ok(fraudService.updateRuleConfiguration(ruleCode, enabled, score, threshold, windowDays, adminEmail));
+    } catch (Exception e) {
+        return ResponseEntity.status(400).body("Error updating fraud rule: " + e.getMessage());
+    }
+}
+
+@PostMapping("/fraud/rules/reload")
+public ResponseEntity<?> reloadFraudRules(@RequestHeader(value = "Authorization") String authHeader) {
+    try {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+        return ResponseEntity.ok(Map.of("pipelineOrder", fraudService.reloadRules()));
+    } catch (Exception e) {
+        return ResponseEntity.status(500).body("Error reloading fraud rules: " + e.getMessage());
+    }
+}
+
+// ================= Async Fraud Scoring Metrics =================
+@GetMapping("/fraud/async/metrics")
+public ResponseEntity<?> getAsyncFraudMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(asyncFraudScoringService.getMetrics());
+}
+
+// ================= Claim Upload Metrics =================
+@GetMapping("/claims/uploads/metrics")
+public ResponseEntity<?> getClaimUploadMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(claimDocumentStorageService.getMetrics());
+}
+
+// ================= Email Outbox =================
+@GetMapping("/mail/outbox")
+public ResponseEntity<?> getEmailOutboxMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(emailOutboxService.getMetrics());
+}
+
+@GetMapping("/mail/outbox/dead")
+public ResponseEntity<?> getDeadLetterEmails(
+        @RequestHeader(value = "Authorization") String authHeader,
+        @RequestParam(defaultValue = "50") int limit) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(emailOutboxService.getDeadLetters(limit));
+}
+
+@PostMapping("/mail/outbox/dead/{id}/retry")
+public ResponseEntity<?> retryDeadLetterEmail(
+        @RequestHeader(value = "Authorization") String authHeader,
+        @PathVariable Long id) {
+    try {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+        return ResponseEntity.ok(emailOutboxService.retryDeadLetter(id));
+    } catch (Exception e) {
+        return ResponseEntity.status(400).body("Error retrying email: " + e.getMessage());
+    }
+}
+
+// ================= Fraud Re-scan Job =================
+@PostMapping("/fraud/rescan")
+public ResponseEntity<?> startFraudRescan(@RequestHeader(value = "Authorization") String authHeader) {
+    try {
+        if (!isAdminJwt(authHeader)) {
+            return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+        }
+        String adminEmail = jwtUtil.extractEmail(authHeader.substring(7).trim());
+        return ResponseEntity.ok(fraudRescanService.startOrResume(adminEmail));
+    } catch (Exception e) {
+        return ResponseEntity.status(500).body("Error starting fraud re-scan: " + e.getMessage());
+    }
+}
+
+@GetMapping("/fraud/rescan")
+public ResponseEntity<?> getFraudRescanStatus(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return fraudRescanService.getLatestJob()
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(404).body("No fraud re-scan job found"));
+}
+
+// Checkpoint of a chunked batch job (e.g. policy-auto-expiry): progress, duration and rows/sec
+@GetMapping("/jobs/{jobName}")
+public ResponseEntity<?> getJobCheckpoint(@RequestHeader(value = "Authorization") String authHeader,
+                                          @PathVariable String jobName) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return chunkedJobRunner.getCheckpoint(jobName)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(404).body("No run found for job: " + jobName));
+}
+
+// ================= JWT Authentication Metrics =================
+@GetMapping("/auth/metrics")
+public ResponseEntity<?> getAuthenticationMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(jwtAuthenticationFilter.getMetrics());
+}
+
+// ================= Policy Catalog Cache =================
+@GetMapping("/cache/policies")
+public ResponseEntity<?> getPolicyCacheMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(policyCatalogCache.getMetrics());
+}
+
+// ================= Notification Stream Metrics =================
+@GetMapping("/notifications/stream/metrics")
+public ResponseEntity<?> getNotificationStreamMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(notificationHub.getMetrics());
+}
+
+// ================= Rebuild Notification Unread Counters =================
+@PostMapping("/notifications/unread-counters/rebuild")
+public ResponseEntity<?> rebuildUnreadCounters(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    try {
+        int counters = notificationCounterService.rebuild();
+        return ResponseEntity.ok(Map.of("counters", counters));
+    } catch (Exception e) {
+        return ResponseEntity.status(500).body("Error rebuilding unread counters: " + e.getMessage());
+    }
+}
+
+// ================= Audit Writer Metrics =================
+@GetMapping("/audit/metrics")
+public ResponseEntity<?> getAuditWriterMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(auditLogService.getMetrics());
+}
+
 // ================= Get All Audit Logs =================
 @GetMapping("/audit/logs")
 public ResponseEntity<?> getAllAuditLogs(
@@ -419,6 +769,81 @@ public ResponseEntity<?> getAllAuditLogs(
     }
 }
 
+// ================= Search Audit Logs (keyset) =================
+// from/to are ISO dates or date-times; the range is [from, to)
+@GetMapping("/audit/logs/search")
+public ResponseEntity<?> searchAuditLogs(@RequestHeader(value = "Authorization") String authHeader,
+                                         @RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "50") int limit,
+                                         @RequestParam(required = false) String userId,
+                                         @RequestParam(required = false) String role,
+                                         @RequestParam(required = false) String action,
+                                         @RequestParam(required = false) String from,
+                                         @RequestParam(required = false) String to) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+
+    int pageSize = Math.max(1, Math.min(limit, MAX_AUDIT_PAGE_SIZE));
+    List<AuditLog> logs;
+    try {
+        logs = auditLogService.searchLogs(userId, role, action, parseAuditTime(from), parseAuditTime(to), cursor, pageSize);
+    } catch (Exception e) {
+        return ResponseEntity.status(400).body("Error searching audit logs: " + e.getMessage());
+    }
+
+    AuditLog last = logs.isEmpty() ? null : logs.get(logs.size() - 1);
+    Map<String, Object> response = new LinkedHashMap<>();
+    response.put("items", logs);
+    response.put("nextCursor", logs.size() < pageSize ? null : KeysetCursor.encode(last.getTimestamp(), last.getId()));
+    return ResponseEntity.ok(response);
+}
+
+private LocalDateTime parseAuditTime(String value) {
+    if (value == null || value.isBlank()) return null;
+    return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+}
+
+// ================= Archive Old Audit Logs =================
+// Moves months older than audit.retention-months to gzipped files and deletes them from the table
+@PostMapping("/audit/archive")
+public ResponseEntity<?> archiveAuditLogs(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    try {
+        return ResponseEntity.ok(auditArchiveService.archiveExpiredMonths());
+    } catch (IllegalStateException e) {
+        return ResponseEntity.status(409).body(e.getMessage());
+    } catch (Exception e) {
+        return ResponseEntity.status(500).body("Error archiving audit logs: " + e.getMessage());
+    }
+}
+
+// ================= Notification Retention =================
+// Archives old read notifications and each user's overflow beyond notifications.retention.max-per-user
+@PostMapping("/notifications/retention/run")
+public ResponseEntity<?> runNotificationRetention(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    try {
+        return ResponseEntity.ok(notificationRetentionService.runRetention());
+    } catch (IllegalStateException e) {
+        return ResponseEntity.status(409).body(e.getMessage());
+    } catch (Exception e) {
+        return ResponseEntity.status(500).body("Error running notification retention: " + e.getMessage());
+    }
+}
+
+@GetMapping("/notifications/retention/metrics")
+public ResponseEntity<?> getNotificationRetentionMetrics(@RequestHeader(value = "Authorization") String authHeader) {
+    if (!isAdminJwt(authHeader)) {
+        return ResponseEntity.status(403).body("Access denied. Please login as Admin.");
+    }
+    return ResponseEntity.ok(notificationRetentionService.getMetrics());
+}
+
 
 // -------------------- Inner class for Login response --------------------
 public static class LoginResponse {
@@ -462,8 +887,14 @@ public static class ClaimDTO {
 
     private boolean fraudFlag;           // ✅ Flag indicator
     private String fraudReason;          // ✅ Fraud reason details
+    private Double fraudScore;           // Total score of triggered fraud rules
 
     public ClaimDTO(Claim claim) {
+        this(claim, claim.getDocuments());
+    }
+
+    // Documents passed in when already batch-loaded, so the lazy collection is not touched
+    public ClaimDTO(Claim claim, java.util.List<String> documents) {
         this.id = claim.getId();
         this.title = claim.getTitle();
         this.description = claim.getDescription();
@@ -491,9 +922,32 @@ public static class ClaimDTO {
             this.policyName = "N/A";
         }
 
-        this.documents = claim.getDocuments();
+        this.documents = documents;
         this.fraudFlag = claim.isFraud();
         this.fraudReason = claim.getFraudReason();
+        this.fraudScore = claim.getFraudScore();
+    }
+
+    public ClaimDTO(ClaimSummary claim) {
+        this.id = claim.getId();
+        this.title = claim.getTitle();
+        this.description = claim.getDescription();
+        this.amount = claim.getAmount();
+        this.status = claim.getStatus();
+        this.remarks = claim.getRemarks();
+        this.claimDate = claim.getClaimDate();
+        this.createdAt = claim.getCreatedAt();
+        this.updatedAt = claim.getUpdatedAt();
+        this.employeeId = claim.getEmployeeId();
+        this.employeeName = claim.getEmployeeName();
+        this.assignedHrId = claim.getAssignedHrId();
+        this.assignedHrName = claim.getAssignedHrName();
+        this.policyId = claim.getPolicyId();
+        this.policyName = claim.getPolicyId() != null ? claim.getPolicyName() : "N/A";
+        this.documents = claim.getDocuments();
+        this.fraudFlag = claim.isFraudFlag();
+        this.fraudReason = claim.getFraudReason();
+        this.fraudScore = claim.getFraudScore();
     }
 
     // -------------------- Getters --------------------
@@ -518,6 +972,7 @@ public static class ClaimDTO {
 
     public boolean isFraudFlag() { return fraudFlag; }
     public String getFraudReason() { return fraudReason; }
+    public Double getFraudScore() { return fraudScore; }
 }
 
 // -------------------- Inner class for Status Update Request --------------------
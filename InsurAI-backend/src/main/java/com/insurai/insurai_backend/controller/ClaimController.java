@@ -1,14 +1,9 @@
 package com.insurai.insurai_backend.controller;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,23 +20,28 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.insurai.insurai_backend.config.JwtUtil;
 import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.ClaimSummary;
 import com.insurai.insurai_backend.model.Employee;
 import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.model.StoredDocument;
 import com.insurai.insurai_backend.repository.EmployeeRepository;
-import com.insurai.insurai_backend.repository.PolicyRepository;
 import com.insurai.insurai_backend.service.AuditLogService;
+import com.insurai.insurai_backend.service.ClaimDocumentStorageService;
 import com.insurai.insurai_backend.service.ClaimService;
+import com.insurai.insurai_backend.service.PolicyService;
 
 @RestController
 @RequestMapping("/employee/claims")
 @CrossOrigin(origins = "http://localhost:5173", allowCredentials = "true")
 public class ClaimController {
 
+    private static final int MAX_CLAIMS_PAGE_SIZE = 500;
+
     @Autowired
     private ClaimService claimService;
 
     @Autowired
-    private PolicyRepository policyRepository;
+    private PolicyService policyService;
 
     @Autowired
     private EmployeeRepository employeeRepository;
@@ -52,7 +52,8 @@ public class ClaimController {
    @Autowired
     private AuditLogService auditLogService;
 
-    private final String uploadDir = "./uploads/";
+    @Autowired
+    private ClaimDocumentStorageService claimDocumentStorageService;
 
 // -------------------- Submit Claim --------------------
 @PostMapping("")
@@ -95,23 +96,34 @@ public ResponseEntity<?> submitClaim(
         }
         System.out.println("Employee found: " + employee.getName());
 
-        Policy policy = policyRepository.findById(policyId).orElse(null);
+        Policy policy = policyService.getPolicyById(policyId).orElse(null);
         if (policy == null) {
             System.out.println("ERROR: Policy not found for ID: " + policyId);
             return ResponseEntity.status(400).body("Error: Policy not found with ID: " + policyId);
         }
         System.out.println("Policy found: " + policy.getPolicyName());
 
-        // Handle document uploads safely
-        List<String> documentPaths = (documents != null && !documents.isEmpty()) ?
-                documents.stream().map(file -> storeFile(file)).collect(Collectors.toList())
-                : List.of();
-
+        // Reject invalid claims before any document is written
+        if (amount > policy.getCoverageAmount()) {
+            return ResponseEntity.status(400).body("Error submitting claim: Claim amount exceeds policy coverage!");
+        }
         LocalDateTime claimDate = LocalDateTime.parse(date + "T00:00:00");
 
+        // Store documents in parallel, hashing them as they are written
+        List<StoredDocument> storedDocuments = claimDocumentStorageService.store(documents);
+        List<String> documentPaths = storedDocuments.stream().map(StoredDocument::getPath).collect(Collectors.toList());
+
         Claim claim = new Claim(title, description, amount, claimDate, employee, policy, null, documentPaths);
+        claim.setUploadedDocuments(storedDocuments);
 
-        Claim savedClaim = claimService.submitClaim(claim);
+        Claim savedClaim;
+        try {
+            savedClaim = claimService.submitClaim(claim);
+        } catch (Exception e) {
+            // Once saved, the claim references the files even if a later step failed
+            if (claim.getId() == null) claimDocumentStorageService.deleteQuietly(storedDocuments);
+            throw e;
+        }
         System.out.println("Claim saved successfully with ID: " + savedClaim.getId());
 
         // ✅ Audit log for claim submission
@@ -172,7 +184,7 @@ public ResponseEntity<?> submitClaimJson(
         Double amount = Double.valueOf(claimData.get("amount").toString());
         String date = claimData.get("date").toString();
 
-        Policy policy = policyRepository.findById(policyId).orElse(null);
+        Policy policy = policyService.getPolicyById(policyId).orElse(null);
         if (policy == null) {
             System.out.println("ERROR: Policy not found for ID: " + policyId);
             return ResponseEntity.status(400).body("Error: Policy not found with ID: " + policyId);
@@ -238,23 +250,33 @@ public ResponseEntity<?> updateClaim(
             return ResponseEntity.status(403).body("Unauthorized: Cannot edit this claim");
         }
 
-        Policy policy = policyRepository.findById(policyId)
+        Policy policy = policyService.getPolicyById(policyId)
                 .orElseThrow(() -> new RuntimeException("Policy not found"));
 
+        if (amount > policy.getCoverageAmount()) {
+            return ResponseEntity.status(400).body("Error updating claim: Claim amount exceeds policy coverage!");
+        }
+
         claim.setTitle(title);
         claim.setDescription(description);
         claim.setAmount(amount);
         claim.setClaimDate(LocalDateTime.parse(date + "T00:00:00"));
         claim.setPolicy(policy);
 
-        if (documents != null && !documents.isEmpty()) {
-            List<String> documentPaths = documents.stream()
-                    .map(file -> storeFile(file))
-                    .collect(Collectors.toList());
-            claim.getDocuments().addAll(documentPaths);
+        List<StoredDocument> storedDocuments = claimDocumentStorageService.store(documents);
+        if (!storedDocuments.isEmpty()) {
+            storedDocuments.forEach(doc -> claim.getDocuments().add(doc.getPath()));
+            claim.setUploadedDocuments(storedDocuments);
         }
 
-        Claim updatedClaim = claimService.updateClaim(claim);
+        Claim updatedClaim;
+        try {
+            updatedClaim = claimService.updateClaim(claim);
+        } catch (Exception e) {
+            // updateClaim is one transaction: on failure nothing references the new files
+            claimDocumentStorageService.deleteQuietly(storedDocuments);
+            throw e;
+        }
 
         // ✅ Audit log for claim update
         auditLogService.logAction(
@@ -304,7 +326,7 @@ public ResponseEntity<?> getEmployeeClaims(
         }
         System.out.println("Employee found: " + employee.getName());
 
-        List<Claim> claims = claimService.getClaimsByEmployee(employee);
+        List<ClaimSummary> claims = claimService.getClaimSummariesByEmployee(employee.getId());
         System.out.println("Found " + claims.size() + " claims for employee");
 
         List<ClaimDTO> claimDTOs = claims.stream().map(ClaimDTO::new).collect(Collectors.toList());
@@ -327,11 +349,15 @@ public ResponseEntity<?> getEmployeeClaims(
 }
 
 
-    // -------------------- Get All Claims (for admin) --------------------
+    // -------------------- Get All Claims (for admin; paged with cursor/limit) --------------------
     @GetMapping("/all")
-    public ResponseEntity<?> getAllClaims() {
+    public ResponseEntity<?> getAllClaims(@RequestParam(required = false) String cursor,
+                                          @RequestParam(required = false) Integer limit) {
+        if (cursor != null || limit != null) {
+            return getClaimsPage(cursor, limit != null ? limit : 50);
+        }
         try {
-            List<Claim> claims = claimService.getAllClaims();
+            List<ClaimSummary> claims = claimService.getAllClaimSummaries();
             List<ClaimDTO> claimDTOs = claims.stream().map(ClaimDTO::new).collect(Collectors.toList());
             return ResponseEntity.ok(claimDTOs);
         } catch (Exception e) {
@@ -339,17 +365,24 @@ public ResponseEntity<?> getEmployeeClaims(
         }
     }
 
-    // -------------------- Helper: Store file safely --------------------
-    private String storeFile(MultipartFile file) {
+    // {items, nextCursor}, newest first, as /admin/claims/page returns
+    private ResponseEntity<?> getClaimsPage(String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_CLAIMS_PAGE_SIZE));
+        List<Claim> claims;
         try {
-            String uniqueName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-            Path filePath = Paths.get(uploadDir + uniqueName);
-            Files.createDirectories(filePath.getParent());
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            return "/uploads/" + uniqueName;
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to store file " + file.getOriginalFilename(), e);
+            claims = claimService.getClaimsPage(null, null, null, cursor, pageSize);
+        } catch (Exception e) {
+            return ResponseEntity.status(400).body("Error fetching all claims: " + e.getMessage());
         }
+
+        Map<Long, List<String>> documents = claimService.getDocumentPaths(claims);
+        List<ClaimDTO> claimDTOs = claims.stream()
+                .map(claim -> new ClaimDTO(claim, documents.getOrDefault(claim.getId(), List.of())))
+                .collect(Collectors.toList());
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("items", claimDTOs);
+        response.put("nextCursor", claims.size() < pageSize ? null : ClaimService.nextCursor(claims.get(claims.size() - 1)));
+        return ResponseEntity.ok(response);
     }
 
     // -------------------- Claim DTO --------------------
@@ -371,6 +404,11 @@ public ResponseEntity<?> getEmployeeClaims(
         private Long assignedHrId;
 
         public ClaimDTO(Claim claim) {
+            this(claim, claim.getDocuments());
+        }
+
+        // Documents passed in when already batch-loaded, so the lazy collection is not touched
+        public ClaimDTO(Claim claim, List<String> documents) {
             this.id = claim.getId();
             this.title = claim.getTitle();
             this.description = claim.getDescription();
@@ -384,10 +422,28 @@ public ResponseEntity<?> getEmployeeClaims(
             this.employeeName = (claim.getEmployee() != null) ? claim.getEmployee().getName() : null;
             this.policyId = (claim.getPolicy() != null) ? claim.getPolicy().getId() : null;
             this.policyName = (claim.getPolicy() != null) ? claim.getPolicy().getPolicyName() : null;
-            this.documents = claim.getDocuments();
+            this.documents = documents;
             this.assignedHrId = (claim.getAssignedHr() != null) ? claim.getAssignedHr().getId() : null;
         }
 
+        public ClaimDTO(ClaimSummary claim) {
+            this.id = claim.getId();
+            this.title = claim.getTitle();
+            this.description = claim.getDescription();
+            this.amount = claim.getAmount();
+            this.status = claim.getStatus();
+            this.remarks = claim.getRemarks();
+            this.claimDate = claim.getClaimDate();
+            this.createdAt = claim.getCreatedAt();
+            this.updatedAt = claim.getUpdatedAt();
+            this.employeeId = claim.getEmployeeId();
+            this.employeeName = claim.getEmployeeName();
+            this.policyId = claim.getPolicyId();
+            this.policyName = claim.getPolicyName();
+            this.documents = claim.getDocuments();
+            this.assignedHrId = claim.getAssignedHrId();
+        }
+
         // Getters
         public Long getId() { return id; }
         public String getTitle() { return title; }
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.insurai.insurai_backend.config.JwtUtil;
 import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.ClaimSummary;
 import com.insurai.insurai_backend.model.Hr;
 import com.insurai.insurai_backend.model.LoginRequest;
 import com.insurai.insurai_backend.repository.HrRepository;
@@ -93,7 +94,7 @@ public ResponseEntity<?> getAssignedClaims(@RequestHeader(value = "Authorization
         Hr hr = hrRepository.findByEmail(hrEmail)
                 .orElseThrow(() -> new RuntimeException("HR not found"));
 
-        List<Claim> claims = claimService.getClaimsByAssignedHr(hr.getId());
+        List<ClaimSummary> claims = claimService.getClaimSummariesByAssignedHr(hr.getId());
         List<ClaimDTO> dtos = claims.stream()
                 .map(ClaimDTO::new)
                 .collect(Collectors.toList());
@@ -181,10 +182,7 @@ public ResponseEntity<?> getFraudClaims(@RequestHeader(value = "Authorization")
         Hr hr = hrRepository.findByEmail(hrEmail)
                 .orElseThrow(() -> new RuntimeException("HR not found"));
 
-        List<Claim> claims = claimService.getClaimsByAssignedHr(hr.getId())
-                .stream()
-                .filter(Claim::isFraud)
-                .collect(Collectors.toList());
+        List<ClaimSummary> claims = claimService.getFraudClaimSummariesByAssignedHr(hr.getId());
 
         List<ClaimDTO> dtos = claims.stream()
                 .map(ClaimDTO::new)
@@ -245,6 +243,7 @@ public static class ClaimDTO {
     private Long assignedHrId;
     private boolean fraudFlag;
     private String fraudReason;
+    private Double fraudScore;
 
     public ClaimDTO(Claim claim) {
         this.id = claim.getId();
@@ -263,6 +262,27 @@ public static class ClaimDTO {
         this.assignedHrId = (claim.getAssignedHr() != null) ? claim.getAssignedHr().getId() : null;
         this.fraudFlag = claim.isFraud();       // map boolean properly
         this.fraudReason = claim.getFraudReason();
+        this.fraudScore = claim.getFraudScore();
+    }
+
+    public ClaimDTO(ClaimSummary claim) {
+        this.id = claim.getId();
+        this.title = claim.getTitle();
+        this.description = claim.getDescription();
+        this.amount = claim.getAmount();
+        this.status = claim.getStatus();
+        this.remarks = claim.getRemarks();
+        this.claimDate = claim.getClaimDate();
+        this.createdAt = claim.getCreatedAt();
+        this.updatedAt = claim.getUpdatedAt();
+        this.employeeId = claim.getEmployeeId();
+        this.policyId = claim.getPolicyId();
+        this.policyName = claim.getPolicyId() != null ? claim.getPolicyName() : "N/A";
+        this.documents = claim.getDocuments();
+        this.assignedHrId = claim.getAssignedHrId();
+        this.fraudFlag = claim.isFraudFlag();
+        this.fraudReason = claim.getFraudReason();
+        this.fraudScore = claim.getFraudScore();
     }
 
     // Getters
@@ -282,6 +302,7 @@ public static class ClaimDTO {
     public Long getAssignedHrId() { return assignedHrId; }
     public boolean isFraudFlag() { return fraudFlag; }
     public String getFraudReason() { return fraudReason; }
+    public Double getFraudScore() { return fraudScore; }
 }
 
 
@@ -1,29 +1,43 @@
 package com.insurai.insurai_backend.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.insurai.insurai_backend.config.VerifiedToken;
+import com.insurai.insurai_backend.model.BroadcastNotification;
 import com.insurai.insurai_backend.model.Notification;
 import com.insurai.insurai_backend.service.InAppNotificationService;
+import com.insurai.insurai_backend.service.NotificationHub;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 @CrossOrigin(origins = "http://localhost:3000") // Enable CORS for React frontend
 @RestController
 @RequestMapping("/notifications")
 public class NotificationController {
 
+    private static final int MAX_FEED_SIZE = 500;
+
     @Autowired
     private InAppNotificationService notificationService;
 
+    @Autowired
+    private NotificationHub notificationHub;
+
     /**
      * Get all notifications for a specific user AND role (sorted by newest first)
      * Example: GET /notifications/user/5?role=HR
@@ -42,6 +56,37 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    /**
+     * Stream new notifications for a user as Server-Sent Events (role from ?role or the token).
+     * Reconnecting clients send Last-Event-ID to receive what they missed.
+     * Example: GET /notifications/user/5/stream?role=HR
+     */
+    @GetMapping(value = "/user/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamNotifications(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String role,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletRequest request
+    ) {
+        if (role == null && request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken verified) {
+            role = verified.role();
+        }
+        if (role == null || role.isBlank()) {
+            return ResponseEntity.badRequest().body("Role is required");
+        }
+
+        Long afterId = null;
+        if (lastEventId != null) {
+            try {
+                afterId = Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                // Unknown ID: start with new notifications only
+            }
+        }
+        SseEmitter emitter = notificationHub.subscribe(role, userId, afterId);
+        return ResponseEntity.ok(emitter);
+    }
+
     /**
      * Get unread notifications for a specific user AND role
      * Example: GET /notifications/user/5/unread?role=HR
@@ -61,11 +106,56 @@ public class NotificationController {
     }
 
     /**
-     * Get all notifications for a specific role (sorted by newest first)
+     * Unread counts for a user (total and by type), read from the unread counters
+     * Example: GET /notifications/user/5/unread/count?role=HR
+     */
+    @GetMapping("/user/{userId}/unread/count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String role
+    ) {
+        return ResponseEntity.ok(notificationService.getUnreadCount(userId, role));
+    }
+
+    /**
+     * Mark all unread notifications of a user and role as read, optionally only one type
+     * Example: PUT /notifications/user/5/read-all?role=HR&type=CLAIM
+     */
+    @PutMapping("/user/{userId}/read-all")
+    public ResponseEntity<Map<String, Object>> markAllAsRead(
+            @PathVariable Long userId,
+            @RequestParam String role,
+            @RequestParam(required = false) String type
+    ) {
+        int updated = notificationService.markAllAsRead(userId, role, type);
+        return ResponseEntity.ok(Map.of("userId", userId, "role", role, "markedRead", updated));
+    }
+
+    /**
+     * Newest role-wide notifications for a user, with that user's read state
+     * Example: GET /notifications/user/5/broadcasts?role=HR&limit=50
+     */
+    @GetMapping("/user/{userId}/broadcasts")
+    public ResponseEntity<List<BroadcastNotification>> getBroadcastsForUser(
+            @PathVariable Long userId,
+            @RequestParam String role,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_FEED_SIZE));
+        return ResponseEntity.ok(notificationService.getBroadcastsForUser(role, userId, pageSize));
+    }
+
+    /**
+     * Get all notifications for a specific role (sorted by newest first), or only the newest `limit`
      */
     @GetMapping("/role/{role}")
-    public ResponseEntity<List<Notification>> getNotificationsByRole(@PathVariable String role) {
-        List<Notification> notifications = notificationService.getNotificationsByRole(role);
+    public ResponseEntity<List<Notification>> getNotificationsByRole(
+            @PathVariable String role,
+            @RequestParam(required = false) Integer limit
+    ) {
+        List<Notification> notifications = limit != null
+                ? notificationService.getNotificationsByRole(role, Math.max(1, Math.min(limit, MAX_FEED_SIZE)))
+                : notificationService.getNotificationsByRole(role);
         return ResponseEntity.ok(notifications);
     }
 
@@ -82,10 +172,18 @@ public class NotificationController {
     }
 
     /**
-     * Mark a notification as read
+     * Mark a notification as read.
+     * With userId, a role-wide notification is marked read for that user only.
      */
     @PutMapping("/{notificationId}/read")
-    public ResponseEntity<Notification> markAsRead(@PathVariable Long notificationId) {
+    public ResponseEntity<?> markAsRead(
+            @PathVariable Long notificationId,
+            @RequestParam(required = false) Long userId
+    ) {
+        if (userId != null) {
+            BroadcastNotification broadcast = notificationService.markBroadcastAsRead(notificationId, userId);
+            if (broadcast != null) return ResponseEntity.ok(broadcast);
+        }
         Notification notification = notificationService.markAsRead(notificationId);
         if (notification != null) {
             return ResponseEntity.ok(notification);
@@ -9,7 +9,12 @@ import lombok.Setter;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "audit_logs")
+@Table(name = "audit_logs", indexes = {
+        @Index(name = "idx_audit_logs_timestamp_id", columnList = "timestamp, id"),
+        @Index(name = "idx_audit_logs_user_timestamp_id", columnList = "user_id, timestamp, id"),
+        @Index(name = "idx_audit_logs_role_timestamp_id", columnList = "role, timestamp, id"),
+        @Index(name = "idx_audit_logs_action_timestamp_id", columnList = "action, timestamp, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,57 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A role-wide notification as seen by one user: read once that user has a read receipt for it,
+ * or once it was marked read for the whole role.
+ */
+public class BroadcastNotification {
+    private Long id;
+    private String title;
+    private String message;
+    private String targetRole;
+    private String notificationType;
+    private LocalDateTime createdAt;
+    private boolean readStatus;
+    private LocalDateTime readAt;
+
+    // Constructors
+    public BroadcastNotification() {}
+    public BroadcastNotification(Long id, String title, String message, String targetRole,
+                                 String notificationType, LocalDateTime createdAt, boolean readByRole, LocalDateTime readAt) {
+        this.id = id;
+        this.title = title;
+        this.message = message;
+        this.targetRole = targetRole;
+        this.notificationType = notificationType;
+        this.createdAt = createdAt;
+        this.readStatus = readByRole || readAt != null;
+        this.readAt = readAt;
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public String getTargetRole() { return targetRole; }
+    public void setTargetRole(String targetRole) { this.targetRole = targetRole; }
+
+    public String getNotificationType() { return notificationType; }
+    public void setNotificationType(String notificationType) { this.notificationType = notificationType; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public boolean isReadStatus() { return readStatus; }
+    public void setReadStatus(boolean readStatus) { this.readStatus = readStatus; }
+
+    public LocalDateTime getReadAt() { return readAt; }
+    public void setReadAt(LocalDateTime readAt) { this.readAt = readAt; }
+}
@@ -11,12 +11,17 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 
 @Entity
-@Table(name = "claims")
+@Table(name = "claims", indexes = {
+        @Index(name = "idx_claims_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_claims_status_created_at_id", columnList = "status, created_at, id")
+})
 public class Claim {
 
     @Id
@@ -81,6 +86,16 @@ public class Claim {
     @Column(length = 2000)
     private String fraudReason;
 
+    // Total score of the triggered fraud rules
+    private Double fraudScore;
+
+    // Fraud scoring state: FRAUD_PENDING while queued for async scoring, SCORED once evaluated
+    private String fraudStatus;
+
+    // Documents uploaded with the current request, with their content hashes (not persisted)
+    @Transient
+    private List<StoredDocument> uploadedDocuments;
+
     // Constructors
     public Claim() {}
 
@@ -211,4 +226,28 @@ public class Claim {
     public void setFraudReason(String fraudReason) {
         this.fraudReason = fraudReason;
     }
+
+    public Double getFraudScore() {
+        return fraudScore;
+    }
+
+    public void setFraudScore(Double fraudScore) {
+        this.fraudScore = fraudScore;
+    }
+
+    public String getFraudStatus() {
+        return fraudStatus;
+    }
+
+    public void setFraudStatus(String fraudStatus) {
+        this.fraudStatus = fraudStatus;
+    }
+
+    public List<StoredDocument> getUploadedDocuments() {
+        return uploadedDocuments;
+    }
+
+    public void setUploadedDocuments(List<StoredDocument> uploadedDocuments) {
+        this.uploadedDocuments = uploadedDocuments;
+    }
 }
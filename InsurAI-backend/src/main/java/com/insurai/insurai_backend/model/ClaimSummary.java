@@ -0,0 +1,115 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only row of a claim listing: claim columns plus the employee, policy and HR names,
+ * selected in one query. Document paths are attached afterwards in one batch.
+ */
+public class ClaimSummary {
+    private Long id;
+    private String title;
+    private String description;
+    private Double amount;
+    private String status;
+    private String remarks;
+    private LocalDateTime claimDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long employeeId;
+    private String employeeName;
+    private Long policyId;
+    private String policyName;
+    private Long assignedHrId;
+    private String assignedHrName;
+    private boolean fraudFlag;
+    private String fraudReason;
+    private Double fraudScore;
+    private List<String> documents = List.of();
+
+    // Constructors
+    public ClaimSummary() {}
+    public ClaimSummary(Long id, String title, String description, Double amount, String status, String remarks,
+                        LocalDateTime claimDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+                        Long employeeId, String employeeName, Long policyId, String policyName,
+                        Long assignedHrId, String assignedHrName,
+                        boolean fraudFlag, String fraudReason, Double fraudScore) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.amount = amount;
+        this.status = status;
+        this.remarks = remarks;
+        this.claimDate = claimDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.policyId = policyId;
+        this.policyName = policyName;
+        this.assignedHrId = assignedHrId;
+        this.assignedHrName = assignedHrName;
+        this.fraudFlag = fraudFlag;
+        this.fraudReason = fraudReason;
+        this.fraudScore = fraudScore;
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public Double getAmount() { return amount; }
+    public void setAmount(Double amount) { this.amount = amount; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+
+    public String getRemarks() { return remarks; }
+    public void setRemarks(String remarks) { this.remarks = remarks; }
+
+    public LocalDateTime getClaimDate() { return claimDate; }
+    public void setClaimDate(LocalDateTime claimDate) { this.claimDate = claimDate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public String getEmployeeName() { return employeeName; }
+    public void setEmployeeName(String employeeName) { this.employeeName = employeeName; }
+
+    public Long getPolicyId() { return policyId; }
+    public void setPolicyId(Long policyId) { this.policyId = policyId; }
+
+    public String getPolicyName() { return policyName; }
+    public void setPolicyName(String policyName) { this.policyName = policyName; }
+
+    public Long getAssignedHrId() { return assignedHrId; }
+    public void setAssignedHrId(Long assignedHrId) { this.assignedHrId = assignedHrId; }
+
+    public String getAssignedHrName() { return assignedHrName; }
+    public void setAssignedHrName(String assignedHrName) { this.assignedHrName = assignedHrName; }
+
+    public boolean isFraudFlag() { return fraudFlag; }
+    public void setFraudFlag(boolean fraudFlag) { this.fraudFlag = fraudFlag; }
+
+    public String getFraudReason() { return fraudReason; }
+    public void setFraudReason(String fraudReason) { this.fraudReason = fraudReason; }
+
+    public Double getFraudScore() { return fraudScore; }
+    public void setFraudScore(Double fraudScore) { this.fraudScore = fraudScore; }
+
+    public List<String> getDocuments() { return documents; }
+    public void setDocuments(List<String> documents) { this.documents = documents; }
+}
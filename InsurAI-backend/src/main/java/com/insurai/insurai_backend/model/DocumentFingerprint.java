@@ -0,0 +1,57 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "document_fingerprints", indexes = {
+        @Index(name = "idx_document_fingerprints_hash", columnList = "content_hash, claim_id"),
+        @Index(name = "idx_document_fingerprints_claim", columnList = "claim_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DocumentFingerprint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // Hex SHA-256 of the uploaded file
+
+    @Column(name = "claim_id", nullable = false)
+    private Long claimId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false)
+    private String documentPath;
+
+    private long sizeBytes;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public DocumentFingerprint(String contentHash, Long claimId, Long employeeId, String documentPath, long sizeBytes) {
+        this.contentHash = contentHash;
+        this.claimId = claimId;
+        this.employeeId = employeeId;
+        this.documentPath = documentPath;
+        this.sizeBytes = sizeBytes;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,20 @@
+package com.insurai.insurai_backend.model;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+
+public class ForgotPasswordRequest {
+    @NotBlank
+    @Email
+    private String email;
+
+    // Constructors
+    public ForgotPasswordRequest() {}
+    public ForgotPasswordRequest(String email) {
+        this.email = email;
+    }
+
+    // Getters & Setters
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+}
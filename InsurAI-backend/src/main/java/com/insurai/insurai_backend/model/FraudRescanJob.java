@@ -0,0 +1,55 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "fraud_rescan_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FraudRescanJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String status = "RUNNING"; // RUNNING, COMPLETED, FAILED
+
+    // Checkpoint: every employee with an ID up to this one has been re-scanned
+    @Column(nullable = false)
+    private Long lastEmployeeId = 0L;
+
+    private long totalClaims; // Claims in the table when the job started
+
+    private long employeesProcessed;
+
+    private long claimsProcessed;
+
+    private long claimsFlagged;
+
+    private Double claimsPerSecond; // Throughput of the latest run
+
+    private String startedBy; // Admin email
+
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 2000)
+    private String lastError;
+}
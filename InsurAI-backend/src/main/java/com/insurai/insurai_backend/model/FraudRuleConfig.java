@@ -0,0 +1,44 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "fraud_rule_config")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FraudRuleConfig {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String ruleCode; // e.g. DUPLICATE_CLAIM, FREQUENT_CLAIMS
+
+    @Column(nullable = false)
+    private Boolean enabled = true;
+
+    @Column(nullable = false)
+    private Double score = 1.0; // Score added when the rule triggers
+
+    private Double threshold; // Rule-specific threshold (count or multiplier), null = rule default
+
+    private Integer windowDays; // Rule-specific look-back window, null = rule default
+
+    private LocalDateTime lastModifiedAt = LocalDateTime.now();
+
+    private String lastModifiedBy; // Admin email or SYSTEM
+}
@@ -0,0 +1,56 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String jobName;
+
+    @Column(nullable = false)
+    private String status = "RUNNING"; // RUNNING, COMPLETED, FAILED
+
+    // Checkpoint: every item with an ID up to this one has been committed
+    @Column(nullable = false)
+    private Long lastProcessedId = 0L;
+
+    private long rowsProcessed; // Since the run (or the run it resumed) started
+
+    private long chunksCommitted;
+
+    private Long durationMs; // Wall time of the latest run
+
+    private Double rowsPerSecond; // Throughput of the latest run
+
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = 2000)
+    private String lastError;
+
+    public JobCheckpoint(String jobName) {
+        this.jobName = jobName;
+    }
+}
@@ -0,0 +1,41 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One user's read mark on a role-wide notification (target ID 0).
+ * Broadcasts are stored once per role; a receipt row exists only for readers who opened one.
+ */
+@Entity
+@Table(name = "notification_read_receipts", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_read_receipt_notification_reader", columnNames = {"notification_id", "reader_id"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class NotificationReadReceipt {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "reader_id", nullable = false)
+    private Long readerId;
+
+    @Column(nullable = false)
+    private LocalDateTime readAt;
+}
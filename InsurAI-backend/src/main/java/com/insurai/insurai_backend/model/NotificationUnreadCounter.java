@@ -0,0 +1,42 @@
+package com.insurai.insurai_backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Number of unread notifications per recipient and type, maintained alongside the notifications
+ * so unread badges never have to load them.
+ */
+@Entity
+@Table(name = "notification_unread_counters", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_unread_counter_recipient_type", columnNames = {"target_role", "target_id", "notification_type"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class NotificationUnreadCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String targetRole;
+
+    @Column(nullable = false)
+    private Long targetId; // 0 for role-wide notifications
+
+    @Column(nullable = false)
+    private String notificationType;
+
+    @Column(nullable = false)
+    private long unreadCount;
+}
@@ -88,6 +88,28 @@ public class Policy {
         this.annexureUrl = annexureUrl;
     }
 
+    public Policy(
+            Long id,
+            String policyNumber,
+            String policyName,
+            String policyType,
+            String providerName,
+            Double coverageAmount,
+            Double monthlyPremium,
+            LocalDate startDate,
+            LocalDate renewalDate,
+            String policyStatus,
+            String policyDescription,
+            String contractUrl,
+            String termsUrl,
+            String claimFormUrl,
+            String annexureUrl
+    ) {
+        this(policyNumber, policyName, policyType, providerName, coverageAmount, monthlyPremium, startDate,
+                renewalDate, policyStatus, policyDescription, contractUrl, termsUrl, claimFormUrl, annexureUrl);
+        this.id = id;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -0,0 +1,46 @@
+package com.insurai.insurai_backend.model;
+
+import java.time.LocalDate;
+
+/**
+ * One recipient of a renewal or expiry notice: an actively enrolled employee and the policy concerned.
+ */
+public class RenewalAlertTarget {
+    private Long employeeId;
+    private String employeeEmail;
+    private String employeeName;
+    private Long policyId;
+    private String policyName;
+    private LocalDate renewalDate;
+
+    // Constructors
+    public RenewalAlertTarget() {}
+    public RenewalAlertTarget(Long employeeId, String employeeEmail, String employeeName,
+                              Long policyId, String policyName, LocalDate renewalDate) {
+        this.employeeId = employeeId;
+        this.employeeEmail = employeeEmail;
+        this.employeeName = employeeName;
+        this.policyId = policyId;
+        this.policyName = policyName;
+        this.renewalDate = renewalDate;
+    }
+
+    // Getters & Setters
+    public Long getEmployeeId() { return employeeId; }
+    public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+
+    public String getEmployeeEmail() { return employeeEmail; }
+    public void setEmployeeEmail(String employeeEmail) { this.employeeEmail = employeeEmail; }
+
+    public String getEmployeeName() { return employeeName; }
+    public void setEmployeeName(String employeeName) { this.employeeName = employeeName; }
+
+    public Long getPolicyId() { return policyId; }
+    public void setPolicyId(Long policyId) { this.policyId = policyId; }
+
+    public String getPolicyName() { return policyName; }
+    public void setPolicyName(String policyName) { this.policyName = policyName; }
+
+    public LocalDate getRenewalDate() { return renewalDate; }
+    public void setRenewalDate(LocalDate renewalDate) { this.renewalDate = renewalDate; }
+}
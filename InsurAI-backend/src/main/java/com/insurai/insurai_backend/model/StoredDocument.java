@@ -0,0 +1,28 @@
+package com.insurai.insurai_backend.model;
+
+/**
+ * A claim document written to disk, with the SHA-256 of its content computed while storing it.
+ */
+public class StoredDocument {
+    private String path;        // Public path, e.g. /uploads/<uuid>_<name>
+    private String contentHash; // Hex SHA-256 of the file content
+    private long sizeBytes;
+
+    // Constructors
+    public StoredDocument() {}
+    public StoredDocument(String path, String contentHash, long sizeBytes) {
+        this.path = path;
+        this.contentHash = contentHash;
+        this.sizeBytes = sizeBytes;
+    }
+
+    // Getters & Setters
+    public String getPath() { return path; }
+    public void setPath(String path) { this.path = path; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public long getSizeBytes() { return sizeBytes; }
+    public void setSizeBytes(long sizeBytes) { this.sizeBytes = sizeBytes; }
+}
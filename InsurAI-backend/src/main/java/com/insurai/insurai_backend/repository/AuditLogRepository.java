@@ -1,9 +1,13 @@
 package com.insurai.insurai_backend.repository;
 
 import com.insurai.insurai_backend.model.AuditLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,8 +19,43 @@ public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
      */
     List<AuditLog> findAllByOrderByTimestampDesc();
 
-    // Additional query methods can be added later if needed, e.g.,
-    // List<AuditLog> findByRole(String role);
-    // List<AuditLog> findByAction(String action);
-    // List<AuditLog> findByTimestampBetween(LocalDateTime start, LocalDateTime end);
+    /**
+     * One filtered page of logs, newest first, after the cursor row.
+     * Null filters match everything; null cursor fields give the first page.
+     */
+    @Query("SELECT a FROM AuditLog a " +
+           "WHERE (:userId IS NULL OR a.userId = :userId) " +
+           "AND (:role IS NULL OR a.role = :role) " +
+           "AND (:action IS NULL OR a.action = :action) " +
+           "AND (:from IS NULL OR a.timestamp >= :from) " +
+           "AND (:to IS NULL OR a.timestamp < :to) " +
+           "AND (:afterTimestamp IS NULL OR a.timestamp < :afterTimestamp " +
+           "     OR (a.timestamp = :afterTimestamp AND a.id < :afterId)) " +
+           "ORDER BY a.timestamp DESC, a.id DESC")
+    List<AuditLog> search(@Param("userId") String userId,
+                          @Param("role") String role,
+                          @Param("action") String action,
+                          @Param("from") LocalDateTime from,
+                          @Param("to") LocalDateTime to,
+                          @Param("afterTimestamp") LocalDateTime afterTimestamp,
+                          @Param("afterId") Long afterId,
+                          Pageable pageable);
+
+    // -------------------- Monthly archival --------------------
+
+    @Query("SELECT MIN(a.timestamp) FROM AuditLog a")
+    LocalDateTime findOldestTimestamp();
+
+    // {minId, maxId} of one month's logs, resolved once on idx_audit_logs_timestamp_id
+    @Query("SELECT MIN(a.id), MAX(a.id) FROM AuditLog a WHERE a.timestamp >= :from AND a.timestamp < :to")
+    List<Object[]> findMonthIdRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Keyset chunk of one month's logs, walking the primary key up to the month's max ID
+    @Query("SELECT a FROM AuditLog a WHERE a.id > :afterId AND a.id <= :maxId " +
+           "AND a.timestamp >= :from AND a.timestamp < :to ORDER BY a.id")
+    List<AuditLog> findMonthChunk(@Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("afterId") Long afterId,
+                                  @Param("maxId") Long maxId,
+                                  Pageable pageable);
 }
@@ -1,16 +1,20 @@
 package com.insurai.insurai_backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.ClaimSummary;
 import com.insurai.insurai_backend.model.Employee;
-import com.insurai.insurai_backend.model.Hr;
 import com.insurai.insurai_backend.model.Policy;
 
 @Repository
@@ -23,6 +27,32 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
     @Query("SELECT c FROM Claim c JOIN FETCH c.employee e JOIN FETCH c.policy p WHERE c.employee = :employee")
     List<Claim> findByEmployeeWithDetails(@Param("employee") Employee employee);
 
+    // Full claim history of an employee for the fraud feature store (policy and documents in one round-trip)
+    @Query("SELECT DISTINCT c FROM Claim c JOIN FETCH c.policy LEFT JOIN FETCH c.documents WHERE c.employee.id = :employeeId")
+    List<Claim> findFraudHistoryByEmployeeId(@Param("employeeId") Long employeeId);
+
+    // Keyset page of employee IDs that have claims, for the fraud re-scan job
+    @Query("SELECT DISTINCT c.employee.id FROM Claim c WHERE c.employee.id > :afterEmployeeId ORDER BY c.employee.id")
+    List<Long> findEmployeeIdsWithClaimsAfter(@Param("afterEmployeeId") Long afterEmployeeId, Pageable pageable);
+
+    // Claim histories of a chunk of employees, for the fraud re-scan job
+    @Query("SELECT DISTINCT c FROM Claim c JOIN FETCH c.policy LEFT JOIN FETCH c.documents WHERE c.employee.id IN :employeeIds")
+    List<Claim> findFraudHistoryByEmployeeIds(@Param("employeeIds") List<Long> employeeIds);
+
+    // Claim with everything the fraud rules read, for async scoring
+    @Query("SELECT DISTINCT c FROM Claim c JOIN FETCH c.policy LEFT JOIN FETCH c.documents WHERE c.id = :claimId")
+    Optional<Claim> findByIdForFraudScoring(@Param("claimId") Long claimId);
+
+    // Write fraud results without touching fields HR may have changed meanwhile
+    @Modifying
+    @Transactional
+    @Query("UPDATE Claim c SET c.fraudFlag = :fraudFlag, c.fraudReason = :fraudReason, c.fraudScore = :fraudScore, c.fraudStatus = :fraudStatus WHERE c.id = :claimId")
+    int updateFraudResult(@Param("claimId") Long claimId,
+                          @Param("fraudFlag") boolean fraudFlag,
+                          @Param("fraudReason") String fraudReason,
+                          @Param("fraudScore") Double fraudScore,
+                          @Param("fraudStatus") String fraudStatus);
+
     // Get all claims submitted by employee's corporate ID
     List<Claim> findByEmployee_EmployeeId(String employeeId);
 
@@ -41,8 +71,9 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
     // Get all claims assigned to a specific HR
     List<Claim> findByAssignedHrId(Long hrId);
 
-    // Count pending claims for a specific HR
-    int countByAssignedHrAndStatus(Hr hr, String status);
+    // Claims with a status per assigned HR as {hrId, count} rows, for the workload registry
+    @Query("SELECT c.assignedHr.id, COUNT(c) FROM Claim c WHERE c.status = :status AND c.assignedHr IS NOT NULL GROUP BY c.assignedHr.id")
+    List<Object[]> countByStatusGroupByAssignedHr(@Param("status") String status);
 
     // -------------------- New: fetch claim by ID with employee eagerly --------------------
     @Query("SELECT c FROM Claim c JOIN FETCH c.employee WHERE c.id = :claimId")
@@ -54,5 +85,48 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
 
     List<Claim> findByAssignedHrIdAndFraudFlag(Long hrId, boolean fraudFlag);
 
+    // -------------------- Listing projections (one query per listing; documents attached in batch) --------------------
+
+    String SUMMARY_SELECT = "SELECT new com.insurai.insurai_backend.model.ClaimSummary(" +
+            "c.id, c.title, c.description, c.amount, c.status, c.remarks, c.claimDate, c.createdAt, c.updatedAt, " +
+            "e.id, e.name, p.id, p.policyName, h.id, h.name, c.fraudFlag, c.fraudReason, c.fraudScore) " +
+            "FROM Claim c LEFT JOIN c.employee e LEFT JOIN c.policy p LEFT JOIN c.assignedHr h ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY c.id")
+    List<ClaimSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE c.fraudFlag = true ORDER BY c.id")
+    List<ClaimSummary> findFraudSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE e.id = :employeeId ORDER BY c.id")
+    List<ClaimSummary> findSummariesByEmployeeId(@Param("employeeId") Long employeeId);
+
+    @Query(SUMMARY_SELECT + "WHERE h.id = :hrId ORDER BY c.id")
+    List<ClaimSummary> findSummariesByAssignedHrId(@Param("hrId") Long hrId);
+
+    @Query(SUMMARY_SELECT + "WHERE h.id = :hrId AND c.fraudFlag = true ORDER BY c.id")
+    List<ClaimSummary> findFraudSummariesByAssignedHrId(@Param("hrId") Long hrId);
+
+    // -------------------- Keyset listing (newest first, by createdAt then id) --------------------
+
+    // One filtered page after the cursor row (null filters match everything; null cursor fields give the first page)
+    @Query("SELECT c FROM Claim c JOIN FETCH c.employee JOIN FETCH c.policy LEFT JOIN FETCH c.assignedHr " +
+           "WHERE (:status IS NULL OR c.status = :status) " +
+           "AND (:fraudFlag IS NULL OR c.fraudFlag = :fraudFlag) " +
+           "AND (:hrId IS NULL OR c.assignedHr.id = :hrId) " +
+           "AND (:afterCreatedAt IS NULL OR c.createdAt < :afterCreatedAt " +
+           "     OR (c.createdAt = :afterCreatedAt AND c.id < :afterId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Claim> findPageAfter(@Param("status") String status,
+                              @Param("fraudFlag") Boolean fraudFlag,
+                              @Param("hrId") Long hrId,
+                              @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    // Document paths of a batch of claims as {claimId, path} rows
+    @Query("SELECT c.id, d FROM Claim c JOIN c.documents d WHERE c.id IN :claimIds")
+    List<Object[]> findDocumentPathsByClaimIds(@Param("claimIds") List<Long> claimIds);
+
 }
 
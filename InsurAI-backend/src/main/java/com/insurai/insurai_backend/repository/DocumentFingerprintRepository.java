@@ -0,0 +1,32 @@
+package com.insurai.insurai_backend.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.insurai.insurai_backend.model.DocumentFingerprint;
+
+@Repository
+public interface DocumentFingerprintRepository extends JpaRepository<DocumentFingerprint, Long> {
+
+    // Any claim (of any employee) already using one of these files
+    boolean existsByContentHashIn(Collection<String> contentHashes);
+
+    // Any earlier claim using one of these files
+    boolean existsByContentHashInAndClaimIdLessThan(Collection<String> contentHashes, Long claimId);
+
+    List<DocumentFingerprint> findByClaimId(Long claimId);
+
+    List<DocumentFingerprint> findByContentHash(String contentHash);
+
+    // Fingerprints of many claims at once, for the fraud re-scan
+    List<DocumentFingerprint> findByClaimIdIn(Collection<Long> claimIds);
+
+    // {contentHash, lowest claim ID using it} rows: a claim reuses a file if a lower claim ID has it
+    @Query("SELECT f.contentHash, MIN(f.claimId) FROM DocumentFingerprint f WHERE f.contentHash IN :hashes GROUP BY f.contentHash")
+    List<Object[]> findFirstClaimIdByContentHashIn(@Param("hashes") Collection<String> contentHashes);
+}
@@ -0,0 +1,29 @@
+package com.insurai.insurai_backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import com.insurai.insurai_backend.model.EmailOutbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // Next batch of messages due for (re)delivery, oldest first, locked with FOR UPDATE SKIP LOCKED
+    // (lock timeout -2) so concurrent dispatchers claim disjoint batches
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<EmailOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(String status, LocalDateTime now, Pageable pageable);
+
+    List<EmailOutbox> findByStatusOrderByIdDesc(String status, Pageable pageable);
+
+    long countByStatus(String status);
+}
@@ -1,5 +1,6 @@
 package com.insurai.insurai_backend.repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +13,7 @@ import com.insurai.insurai_backend.model.Employee;
 import com.insurai.insurai_backend.model.Enrollment;
 import com.insurai.insurai_backend.model.Hr;
 import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.model.RenewalAlertTarget;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
@@ -38,10 +40,42 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
     @Query("SELECT COUNT(e) FROM Enrollment e WHERE e.status = :status")
     Long countByStatus(@Param("status") String status);
 
+    // Enrollment dashboard counts in one pass over the table
+    @Query("SELECT COUNT(e) AS total, " +
+           "COUNT(CASE WHEN e.status = 'Pending' THEN 1 END) AS pending, " +
+           "COUNT(CASE WHEN e.status = 'Approved' THEN 1 END) AS approved, " +
+           "COUNT(CASE WHEN e.status = 'Rejected' THEN 1 END) AS rejected, " +
+           "COUNT(CASE WHEN e.status = 'Active' THEN 1 END) AS active " +
+           "FROM Enrollment e")
+    StatusCounts aggregateStatusCounts();
+
+    interface StatusCounts {
+        long getTotal();
+        long getPending();
+        long getApproved();
+        long getRejected();
+        long getActive();
+    }
+
+    // Enrollments with a status per assigned HR as {hrId, count} rows, for the workload registry
+    @Query("SELECT e.assignedHr.id, COUNT(e) FROM Enrollment e WHERE e.status = :status AND e.assignedHr IS NOT NULL GROUP BY e.assignedHr.id")
+    List<Object[]> countByStatusGroupByAssignedHr(@Param("status") String status);
+
     @Query("SELECT e FROM Enrollment e WHERE e.employee.id = :employeeId AND e.status IN ('Approved', 'Active')")
     List<Enrollment> findActiveEnrollmentsByEmployeeId(@Param("employeeId") Long employeeId);
 
     @Query("SELECT e FROM Enrollment e WHERE e.policy.id = :policyId AND e.status IN ('Approved', 'Active')")
     List<Enrollment> findActiveEnrollmentsByPolicyId(@Param("policyId") Long policyId);
+
+    // Renewal alert recipients of every policy renewing on one of the dates, employee and policy columns joined in
+    @Query("SELECT new com.insurai.insurai_backend.model.RenewalAlertTarget(emp.id, emp.email, emp.name, p.id, p.policyName, p.renewalDate) " +
+           "FROM Enrollment e JOIN e.employee emp JOIN e.policy p " +
+           "WHERE p.renewalDate IN :dates AND e.status IN ('Approved', 'Active')")
+    List<RenewalAlertTarget> findRenewalAlertTargets(@Param("dates") List<LocalDate> dates);
+
+    @Query("SELECT new com.insurai.insurai_backend.model.RenewalAlertTarget(emp.id, emp.email, emp.name, p.id, p.policyName, p.renewalDate) " +
+           "FROM Enrollment e JOIN e.employee emp JOIN e.policy p " +
+           "WHERE p.id IN :policyIds AND e.status IN ('Approved', 'Active')")
+    List<RenewalAlertTarget> findRenewalAlertTargetsByPolicyIds(@Param("policyIds") List<Long> policyIds);
 }
 
@@ -0,0 +1,14 @@
+package com.insurai.insurai_backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.insurai.insurai_backend.model.FraudRescanJob;
+
+@Repository
+public interface FraudRescanJobRepository extends JpaRepository<FraudRescanJob, Long> {
+
+    Optional<FraudRescanJob> findTopByOrderByIdDesc();
+}
@@ -0,0 +1,24 @@
+package com.insurai.insurai_backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.insurai.insurai_backend.model.JobCheckpoint;
+
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+    Optional<JobCheckpoint> findByJobName(String jobName);
+
+    // Move the checkpoint past a chunk, in the same transaction as the chunk's writes
+    @Modifying
+    @Query("UPDATE JobCheckpoint c SET c.lastProcessedId = :lastId, c.rowsProcessed = c.rowsProcessed + :rows, " +
+           "c.chunksCommitted = c.chunksCommitted + 1, c.updatedAt = :now WHERE c.id = :id")
+    int advance(@Param("id") Long id, @Param("lastId") Long lastId, @Param("rows") long rows, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,19 @@
+package com.insurai.insurai_backend.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.insurai.insurai_backend.model.NotificationReadReceipt;
+
+@Repository
+public interface NotificationReadReceiptRepository extends JpaRepository<NotificationReadReceipt, Long> {
+
+    @Modifying
+    @Query("DELETE FROM NotificationReadReceipt r WHERE r.notificationId IN :notificationIds")
+    int deleteByNotificationIds(@Param("notificationIds") Collection<Long> notificationIds);
+}
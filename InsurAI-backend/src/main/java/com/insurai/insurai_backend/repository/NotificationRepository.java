@@ -1,12 +1,23 @@
 package com.insurai.insurai_backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.insurai.insurai_backend.model.BroadcastNotification;
 import com.insurai.insurai_backend.model.Notification;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
@@ -34,6 +45,9 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // All notifications for a role
     List<Notification> findByTargetRoleOrderByCreatedAtDesc(String targetRole);
 
+    // Newest notifications for a role (served from the target_role, created_at index)
+    List<Notification> findByTargetRoleOrderByCreatedAtDesc(String targetRole, Pageable pageable);
+
     // Unread notifications for a role
     List<Notification> findByTargetRoleAndReadStatusFalseOrderByCreatedAtDesc(String targetRole);
 
@@ -44,4 +58,107 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByTargetRoleAndNotificationTypeAndReadStatusFalseOrderByCreatedAtDesc(
         String targetRole, String notificationType
     );
+
+    // ------------------ Broadcasts (targetId 0) ------------------
+
+    // Newest broadcasts of a role with one reader's read receipt
+    @Query("SELECT new com.insurai.insurai_backend.model.BroadcastNotification(n.id, n.title, n.message, n.targetRole, " +
+           "n.notificationType, n.createdAt, n.readStatus, r.readAt) " +
+           "FROM Notification n LEFT JOIN NotificationReadReceipt r ON r.notificationId = n.id AND r.readerId = :readerId " +
+           "WHERE n.targetRole = :role AND n.targetId = 0 ORDER BY n.createdAt DESC, n.id DESC")
+    List<BroadcastNotification> findBroadcastsForReader(@Param("role") String targetRole,
+                                                        @Param("readerId") Long readerId,
+                                                        Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.targetRole = :role AND n.targetId = 0 AND n.readStatus = false " +
+           "AND NOT EXISTS (SELECT r.id FROM NotificationReadReceipt r WHERE r.notificationId = n.id AND r.readerId = :readerId)")
+    long countUnreadBroadcasts(@Param("role") String targetRole, @Param("readerId") Long readerId);
+
+    // Latest identical broadcast since a point in time, to coalesce repeats
+    Optional<Notification> findFirstByTargetRoleAndTargetIdAndTitleAndMessageAndCreatedAtGreaterThanEqualOrderByIdDesc(
+        String targetRole, Long targetId, String title, String message, LocalDateTime since
+    );
+
+    // ------------------ Push delivery ------------------
+
+    // Notifications for one subscriber (own and role-wide, targetId 0) after the last delivered ID, oldest first
+    @Query("SELECT n FROM Notification n WHERE n.targetRole = :role AND (n.targetId = :targetId OR n.targetId = 0) " +
+           "AND n.id > :afterId ORDER BY n.id")
+    List<Notification> findForSubscriberAfter(@Param("role") String role,
+                                              @Param("targetId") Long targetId,
+                                              @Param("afterId") Long afterId,
+                                              Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM Notification n")
+    long findMaxId();
+
+    // ------------------ Bulk updates ------------------
+
+    // Mark every unread notification of a user (optionally of one type) as read in one statement
+    @Modifying
+    @Query("UPDATE Notification n SET n.readStatus = true, n.updatedAt = :now WHERE n.targetId = :targetId " +
+           "AND n.targetRole = :role AND n.readStatus = false AND (:type IS NULL OR n.notificationType = :type)")
+    int markAllRead(@Param("targetId") Long targetId,
+                    @Param("role") String targetRole,
+                    @Param("type") String notificationType,
+                    @Param("now") LocalDateTime now);
+
+    // Mark one notification read only while it is still unread; 1 means this call read it
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.readStatus = true, n.updatedAt = :now WHERE n.id = :id AND n.readStatus = false")
+    int markReadIfUnread(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Delete one notification only in the given read state; 1 means this call removed it
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id = :id AND n.readStatus = :readStatus")
+    int deleteByIdAndReadStatus(@Param("id") Long id, @Param("readStatus") boolean readStatus);
+
+    // ------------------ Retention ------------------
+
+    @Query("SELECT MAX(n.id) FROM Notification n WHERE n.createdAt < :cutoff")
+    Long findMaxIdCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // Keyset chunk of read notifications and broadcasts created before the cutoff, in ID order
+    @Query("SELECT n FROM Notification n WHERE n.id > :afterId AND n.id <= :maxId AND n.createdAt < :cutoff " +
+           "AND (n.readStatus = true OR n.targetId = 0) ORDER BY n.id")
+    List<Notification> findExpiredChunk(@Param("cutoff") LocalDateTime cutoff,
+                                        @Param("afterId") Long afterId,
+                                        @Param("maxId") Long maxId,
+                                        Pageable pageable);
+
+    // (role, user ID) of every user with more than :cap notifications of their own
+    @Query("SELECT n.targetRole, n.targetId FROM Notification n WHERE n.targetId <> 0 " +
+           "GROUP BY n.targetRole, n.targetId HAVING COUNT(n) > :cap")
+    List<Object[]> findRecipientsOverCap(@Param("cap") long cap);
+
+    // A user's notification IDs, newest first (page with offset = window size to find the first one outside it)
+    @Query("SELECT n.id FROM Notification n WHERE n.targetRole = :role AND n.targetId = :targetId ORDER BY n.id DESC")
+    List<Long> findRecipientIdsNewestFirst(@Param("role") String targetRole,
+                                           @Param("targetId") Long targetId,
+                                           Pageable pageable);
+
+    // Keyset chunk of one user's notifications up to maxId, in ID order
+    @Query("SELECT n FROM Notification n WHERE n.targetRole = :role AND n.targetId = :targetId " +
+           "AND n.id > :afterId AND n.id <= :maxId ORDER BY n.id")
+    List<Notification> findRecipientChunk(@Param("role") String targetRole,
+                                          @Param("targetId") Long targetId,
+                                          @Param("afterId") Long afterId,
+                                          @Param("maxId") Long maxId,
+                                          Pageable pageable);
+
+    // The still-unread rows among these, locked until the caller's transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n WHERE n.id IN :ids AND n.readStatus = false")
+    List<Notification> lockUnreadByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    // ------------------ Counts ------------------
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.notificationType = :type AND n.title = :title AND n.createdAt >= :since")
+    long countByTypeAndTitleSince(@Param("type") String notificationType,
+                                  @Param("title") String title,
+                                  @Param("since") LocalDateTime since);
 }
@@ -0,0 +1,24 @@
+package com.insurai.insurai_backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.insurai.insurai_backend.model.NotificationUnreadCounter;
+
+@Repository
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, Long> {
+
+    List<NotificationUnreadCounter> findByTargetId(Long targetId);
+
+    List<NotificationUnreadCounter> findByTargetRoleAndTargetId(String targetRole, Long targetId);
+
+    @Modifying
+    @Query("UPDATE NotificationUnreadCounter c SET c.unreadCount = 0 WHERE c.targetRole = :role AND c.targetId = :targetId " +
+           "AND (:type IS NULL OR c.notificationType = :type)")
+    int reset(@Param("role") String targetRole, @Param("targetId") Long targetId, @Param("type") String notificationType);
+}
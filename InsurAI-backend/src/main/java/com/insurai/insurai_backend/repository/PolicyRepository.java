@@ -3,19 +3,30 @@ package com.insurai.insurai_backend.repository;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.insurai.insurai_backend.model.Policy;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface PolicyRepository extends JpaRepository<Policy, Long> {
 
     // Find all active policies
     List<Policy> findByPolicyStatus(String policyStatus);
 
+    // Every policy as an unmanaged copy (constructor expression), for the in-process catalog
+    @Query("SELECT new com.insurai.insurai_backend.model.Policy(p.id, p.policyNumber, p.policyName, p.policyType, " +
+           "p.providerName, p.coverageAmount, p.monthlyPremium, p.startDate, p.renewalDate, p.policyStatus, " +
+           "p.policyDescription, p.contractUrl, p.termsUrl, p.claimFormUrl, p.annexureUrl) FROM Policy p ORDER BY p.id")
+    List<Policy> findAllUnmanaged();
+
     // Find policies by type
     List<Policy> findByPolicyType(String policyType);
 
@@ -25,6 +36,8 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
     // Find policies by renewal date range (for renewal alerts)
     List<Policy> findByRenewalDateBetween(LocalDate start, LocalDate end);
 
+    List<Policy> findByRenewalDateIn(List<LocalDate> dates);
+
     // Find active policies with renewal date before given date (expired)
     List<Policy> findByPolicyStatusAndRenewalDateBefore(String policyStatus, LocalDate date);
 
@@ -35,4 +48,39 @@ public interface PolicyRepository extends JpaRepository<Policy, Long> {
     // Find all expired active policies
     @Query("SELECT p FROM Policy p WHERE p.policyStatus = 'Active' AND p.renewalDate < :currentDate")
     List<Policy> findExpiredActivePolicies(@Param("currentDate") LocalDate currentDate);
+
+    // Renewal dashboard counts in one pass over the table
+    @Query("SELECT COUNT(CASE WHEN p.policyStatus = 'Active' THEN 1 END) AS active, " +
+           "COUNT(CASE WHEN p.policyStatus = 'Active' AND p.renewalDate BETWEEN :today AND :in7Days THEN 1 END) AS next7Days, " +
+           "COUNT(CASE WHEN p.policyStatus = 'Active' AND p.renewalDate BETWEEN :today AND :in15Days THEN 1 END) AS next15Days, " +
+           "COUNT(CASE WHEN p.policyStatus = 'Active' AND p.renewalDate BETWEEN :today AND :in30Days THEN 1 END) AS next30Days, " +
+           "COUNT(CASE WHEN p.policyStatus = 'Expired' THEN 1 END) AS expired " +
+           "FROM Policy p")
+    RenewalCounts aggregateRenewalCounts(@Param("today") LocalDate today,
+                                         @Param("in7Days") LocalDate in7Days,
+                                         @Param("in15Days") LocalDate in15Days,
+                                         @Param("in30Days") LocalDate in30Days);
+
+    interface RenewalCounts {
+        long getActive();
+        long getNext7Days();
+        long getNext15Days();
+        long getNext30Days();
+        long getExpired();
+    }
+
+    // Next chunk of expired active policies after a checkpoint, for the auto-expiry job
+    @Query("SELECT p FROM Policy p WHERE p.policyStatus = 'Active' AND p.renewalDate < :currentDate AND p.id > :afterId ORDER BY p.id")
+    List<Policy> findExpiredActivePoliciesAfter(@Param("currentDate") LocalDate currentDate,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+
+    // The chunk's policies that are still due for expiry, locked until the chunk commits so a renewal waits for it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Policy p WHERE p.id IN :ids AND p.policyStatus = 'Active' AND p.renewalDate < :currentDate ORDER BY p.id")
+    List<Policy> lockExpiredActivePolicies(@Param("ids") List<Long> ids, @Param("currentDate") LocalDate currentDate);
+
+    @Modifying
+    @Query("UPDATE Policy p SET p.policyStatus = 'Expired' WHERE p.id IN :ids AND p.policyStatus = 'Active' AND p.renewalDate < :currentDate")
+    int expireActivePolicies(@Param("ids") List<Long> ids, @Param("currentDate") LocalDate currentDate);
 }
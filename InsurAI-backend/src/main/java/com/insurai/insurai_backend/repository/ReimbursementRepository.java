@@ -40,6 +40,23 @@ public interface ReimbursementRepository extends JpaRepository<Reimbursement, Lo
     @Query("SELECT COUNT(r) FROM Reimbursement r WHERE r.status = :status")
     Long countByStatus(@Param("status") String status);
 
+    // Reimbursement dashboard counts in one pass over the table
+    @Query("SELECT COUNT(r) AS total, " +
+           "COUNT(CASE WHEN r.status = 'Pending' THEN 1 END) AS pending, " +
+           "COUNT(CASE WHEN r.status = 'Processing' THEN 1 END) AS processing, " +
+           "COUNT(CASE WHEN r.status = 'Completed' THEN 1 END) AS completed, " +
+           "COUNT(CASE WHEN r.status = 'Failed' THEN 1 END) AS failed " +
+           "FROM Reimbursement r")
+    StatusCounts aggregateStatusCounts();
+
+    interface StatusCounts {
+        long getTotal();
+        long getPending();
+        long getProcessing();
+        long getCompleted();
+        long getFailed();
+    }
+
     boolean existsByClaim(Claim claim);
 }
 
@@ -29,6 +29,9 @@ public class AdminService {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private HrWorkloadRegistry hrWorkloadRegistry;
+
     // -------------------- Admin login --------------------
     public boolean validateAdmin(String email, String password) {
         return ADMIN_EMAIL.equals(email) && ADMIN_PASSWORD.equals(password);
@@ -81,6 +84,7 @@ public class AdminService {
         hr.setPhoneNumber(request.getPhoneNumber());
         hr.setHrId(request.getHrId());
         hr.setPassword(passwordEncoder.encode(request.getPassword()));
-        hrRepository.save(hr);
+        Hr savedHr = hrRepository.save(hr);
+        hrWorkloadRegistry.hrAdded(savedHr.getId());
     }
 }
@@ -0,0 +1,166 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.repository.ClaimRepository;
+import com.insurai.insurai_backend.service.fraud.FraudEvaluationResult;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional asynchronous fraud scoring stage.
+ * Claims are saved as FRAUD_PENDING and scored by a bounded worker pool; when the
+ * queue is full the caller scores the claim itself instead of waiting.
+ */
+@Service
+@Slf4j
+public class AsyncFraudScoringService {
+
+    public static final String FRAUD_PENDING = "FRAUD_PENDING";
+    public static final String SCORED = "SCORED";
+
+    private final ClaimRepository claimRepository;
+    private final FraudService fraudService;
+    private final FraudFeatureStore fraudFeatureStore;
+    private final InAppNotificationService inAppNotificationService;
+    private final boolean enabled;
+    private final int queueCapacity;
+    private final ThreadPoolExecutor executor;
+
+    // -------------------- Back-pressure metrics --------------------
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalQueueWaitMillis = new AtomicLong();
+    private final AtomicLong maxQueueWaitMillis = new AtomicLong();
+
+    public AsyncFraudScoringService(ClaimRepository claimRepository,
+                                    FraudService fraudService,
+                                    FraudFeatureStore fraudFeatureStore,
+                                    InAppNotificationService inAppNotificationService,
+                                    @Value("${fraud.async.enabled:false}") boolean enabled,
+                                    @Value("${fraud.async.workers:4}") int workers,
+                                    @Value("${fraud.async.queue-capacity:500}") int queueCapacity) {
+        this.claimRepository = claimRepository;
+        this.fraudService = fraudService;
+        this.fraudFeatureStore = fraudFeatureStore;
+        this.inAppNotificationService = inAppNotificationService;
+        this.enabled = enabled;
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fraud-scorer-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a saved claim for scoring.
+     *
+     * @return false if the queue is saturated and the caller should score synchronously
+     */
+    public boolean submit(Long claimId) {
+        long enqueuedAt = System.currentTimeMillis();
+        try {
+            executor.execute(() -> {
+                long waited = System.currentTimeMillis() - enqueuedAt;
+                totalQueueWaitMillis.addAndGet(waited);
+                maxQueueWaitMillis.accumulateAndGet(waited, Math::max);
+                scoreClaim(claimId);
+            });
+            submitted.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            log.warn("Fraud scoring queue saturated ({} queued), scoring claim {} synchronously", executor.getQueue().size(), claimId);
+            return false;
+        }
+    }
+
+    /**
+     * Score a persisted claim, store the result and alert the assigned HR if it is flagged.
+     */
+    public void scoreClaim(Long claimId) {
+        try {
+            Claim claim = claimRepository.findByIdForFraudScoring(claimId).orElse(null);
+            if (claim == null || claim.getEmployee() == null) {
+                log.warn("Claim {} not found for fraud scoring", claimId);
+                return;
+            }
+
+            EmployeeFraudFeatures features = fraudFeatureStore.getFeatures(claim.getEmployee().getId());
+            FraudEvaluationResult result;
+            synchronized (features) {
+                // The history load may already include this claim; score it against the others only
+                features.remove(claim);
+                result = fraudService.runFraudDetection(claim, features);
+                features.add(claim);
+            }
+
+            claimRepository.updateFraudResult(claimId, claim.isFraud(), claim.getFraudReason(), claim.getFraudScore(), SCORED);
+            completed.incrementAndGet();
+
+            if (result.isFlagged() && claim.getAssignedHr() != null) {
+                inAppNotificationService.createNotification(
+                        "Fraud Alert",
+                        "Claim #" + claimId + " was flagged for review: " + result.getReasonText(),
+                        claim.getAssignedHr().getId(),
+                        "HR",
+                        "CLAIM"
+                );
+            }
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("Async fraud scoring failed for claim {}: {}", claimId, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        long done = completed.get();
+        metrics.put("enabled", enabled);
+        metrics.put("workers", executor.getMaximumPoolSize());
+        metrics.put("activeWorkers", executor.getActiveCount());
+        metrics.put("queueDepth", executor.getQueue().size());
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("submitted", submitted.get());
+        metrics.put("completed", done);
+        metrics.put("failed", failed.get());
+        metrics.put("rejectedToSync", rejected.get());
+        metrics.put("avgQueueWaitMillis", done > 0 ? totalQueueWaitMillis.get() / done : 0);
+        metrics.put("maxQueueWaitMillis", maxQueueWaitMillis.get());
+        return metrics;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            // Claims still queued stay FRAUD_PENDING and can be picked up by a re-scan
+            log.warn("Fraud scoring pool did not drain, {} claims left pending", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+}
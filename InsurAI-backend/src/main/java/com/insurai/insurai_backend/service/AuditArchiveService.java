@@ -0,0 +1,163 @@
+package com.insurai.insurai_backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurai.insurai_backend.model.AuditLog;
+import com.insurai.insurai_backend.repository.AuditLogRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Monthly retention for the audit log.
+ * Every calendar month older than the retention window is written to a gzipped NDJSON file
+ * under the archive directory and then deleted from audit_logs in bounded chunks. Rows are
+ * only deleted once their month's file has been fully written and moved into place.
+ */
+@Service
+@Slf4j
+public class AuditArchiveService {
+
+    // MySQL DELETE ... LIMIT keeps each delete statement (and its locks) small
+    private static final String DELETE_SQL =
+            "DELETE FROM audit_logs WHERE timestamp >= ? AND timestamp < ? AND id <= ? LIMIT ?";
+
+    private final AuditLogRepository auditLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int retentionMonths;
+    private final Path archiveDir;
+    private final int chunkSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public AuditArchiveService(AuditLogRepository auditLogRepository,
+                               JdbcTemplate jdbcTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${audit.retention-months:6}") int retentionMonths,
+                               @Value("${audit.archive.dir:./audit-archive/}") String archiveDir,
+                               @Value("${audit.archive.chunk-size:5000}") int chunkSize) {
+        this.auditLogRepository = auditLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.retentionMonths = retentionMonths;
+        this.archiveDir = Paths.get(archiveDir);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${audit.archive.cron:0 30 2 * * ?}")
+    public void scheduledArchive() {
+        try {
+            archiveExpiredMonths();
+        } catch (Exception e) {
+            log.error("Audit archival failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive and purge every month before the retention window.
+     *
+     * @return one summary per archived month
+     */
+    public List<Map<String, Object>> archiveExpiredMonths() throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Audit archival is already running");
+        }
+        try {
+            List<Map<String, Object>> archived = new ArrayList<>();
+            LocalDateTime oldest = auditLogRepository.findOldestTimestamp();
+            if (oldest == null) return archived;
+
+            YearMonth firstRetained = YearMonth.now().minusMonths(retentionMonths);
+            for (YearMonth month = YearMonth.from(oldest); month.isBefore(firstRetained); month = month.plusMonths(1)) {
+                Map<String, Object> summary = archiveMonth(month);
+                if (summary != null) archived.add(summary);
+            }
+            return archived;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, Object> archiveMonth(YearMonth month) throws IOException {
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        // Filtering the month's timestamp range while paging in ID order has no index serving both,
+        // so resolve the month's ID range once and walk the primary key through it
+        Object[] idRange = auditLogRepository.findMonthIdRange(from, to).get(0);
+        if (idRange[0] == null) return null;
+        long minId = (Long) idRange[0];
+        long maxId = (Long) idRange[1];
+
+        Files.createDirectories(archiveDir);
+        // A month can be archived again if an earlier run stopped while deleting, so never overwrite a file
+        Path target = archiveDir.resolve("audit-" + month + "-" + System.currentTimeMillis() + ".ndjson.gz");
+        Path temp = archiveDir.resolve(target.getFileName() + ".tmp");
+
+        long rows = 0;
+        long lastId = minId - 1;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+            while (true) {
+                List<AuditLog> chunk = auditLogRepository.findMonthChunk(from, to, lastId, maxId, PageRequest.of(0, chunkSize));
+                for (AuditLog entry : chunk) {
+                    writer.write(objectMapper.writeValueAsString(entry));
+                    writer.write('\n');
+                }
+                rows += chunk.size();
+                if (!chunk.isEmpty()) lastId = chunk.get(chunk.size() - 1).getId();
+                if (chunk.size() < chunkSize) break;
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (rows == 0) {
+            Files.deleteIfExists(temp);
+            return null;
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        // Only rows that made it into the file (id <= lastId) are removed
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(DELETE_SQL, Timestamp.valueOf(from), Timestamp.valueOf(to), lastId, chunkSize);
+            deleted += batch;
+        } while (batch == chunkSize);
+
+        log.info("Archived {} audit log entries of {} to {} ({} deleted)", rows, month, target, deleted);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("month", month.toString());
+        summary.put("rows", rows);
+        summary.put("deleted", deleted);
+        summary.put("file", target.toString());
+        return summary;
+    }
+}
@@ -2,17 +2,74 @@ package com.insurai.insurai_backend.service;
 
 import com.insurai.insurai_backend.model.AuditLog;
 import com.insurai.insurai_backend.repository.AuditLogRepository;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Audit trail writer.
+ * Security-critical actions (logins, registrations, password changes) are saved before
+ * logAction returns. Everything else goes into a lock-free ring buffer that a single
+ * background writer drains into batched JDBC inserts.
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class AuditLogService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO audit_logs (user_id, user_name, role, action, details, timestamp) VALUES (?, ?, ?, ?, ?, ?)";
+
     private final AuditLogRepository auditLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean asyncEnabled;
+    private final Set<String> syncActions;
+    private final int batchSize;
+    private final RingBuffer<AuditLog> buffer;
+    private final ScheduledExecutorService writer;
+
+    // -------------------- Metrics --------------------
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong syncWrites = new AtomicLong();
+    private final AtomicLong overflowed = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public AuditLogService(AuditLogRepository auditLogRepository,
+                           JdbcTemplate jdbcTemplate,
+                           @Value("${audit.async.enabled:true}") boolean asyncEnabled,
+                           @Value("${audit.sync-actions:LOGIN,REGISTER,FORGOT_PASSWORD,RESET_PASSWORD}") Set<String> syncActions,
+                           @Value("${audit.buffer-capacity:8192}") int bufferCapacity,
+                           @Value("${audit.batch-size:500}") int batchSize,
+                           @Value("${audit.flush-interval-ms:500}") long flushIntervalMs) {
+        this.auditLogRepository = auditLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.asyncEnabled = asyncEnabled;
+        this.syncActions = Set.copyOf(syncActions);
+        this.batchSize = batchSize;
+        this.buffer = new RingBuffer<>(bufferCapacity);
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "audit-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
 
     /**
      * Log an action performed by any user.
@@ -31,7 +88,16 @@ public class AuditLogService {
         log.setDetails(details);
         log.setTimestamp(LocalDateTime.now());
 
-        auditLogRepository.save(log);
+        if (!asyncEnabled || syncActions.contains(action)) {
+            auditLogRepository.save(log);
+            syncWrites.incrementAndGet();
+        } else if (buffer.offer(log)) {
+            enqueued.incrementAndGet();
+        } else {
+            // Buffer full: keep the entry by writing it on the caller's thread
+            auditLogRepository.save(log);
+            overflowed.incrementAndGet();
+        }
     }
 
     /**
@@ -41,4 +107,62 @@ public class AuditLogService {
     public List<AuditLog> getAllLogs() {
         return auditLogRepository.findAllByOrderByTimestampDesc();
     }
+
+    /**
+     * One page of logs matching the filters, newest first, after the given cursor.
+     * Null filters match everything; the time range is [from, to).
+     */
+    public List<AuditLog> searchLogs(String userId, String role, String action,
+                                     LocalDateTime from, LocalDateTime to, String cursor, int limit) throws Exception {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return auditLogRepository.search(userId, role, action, from, to, after.at(), after.id(), PageRequest.of(0, limit));
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("asyncEnabled", asyncEnabled);
+        metrics.put("syncActions", syncActions);
+        metrics.put("bufferCapacity", buffer.capacity());
+        metrics.put("bufferDepth", buffer.size());
+        metrics.put("enqueued", enqueued.get());
+        metrics.put("written", written.get());
+        metrics.put("batches", batches.get());
+        metrics.put("syncWrites", syncWrites.get());
+        metrics.put("overflowed", overflowed.get());
+        metrics.put("dropped", dropped.get());
+        return metrics;
+    }
+
+    // Only ever runs on the audit-writer thread, or after it has stopped, so the buffer has one consumer
+    private void flush() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            try {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                    ps.setString(1, entry.getUserId());
+                    ps.setString(2, entry.getUserName());
+                    ps.setString(3, entry.getRole());
+                    ps.setString(4, entry.getAction());
+                    ps.setString(5, entry.getDetails());
+                    ps.setTimestamp(6, Timestamp.valueOf(entry.getTimestamp()));
+                });
+                written.addAndGet(batch.size());
+                batches.incrementAndGet();
+            } catch (RuntimeException e) {
+                dropped.addAndGet(batch.size());
+                log.error("Failed to write {} audit log entries: {}", batch.size(), e.getMessage());
+            }
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown();
+        if (writer.awaitTermination(10, TimeUnit.SECONDS)) {
+            flush();
+        } else {
+            log.warn("Audit writer did not stop in time; {} buffered entries not written", buffer.size());
+        }
+    }
 }
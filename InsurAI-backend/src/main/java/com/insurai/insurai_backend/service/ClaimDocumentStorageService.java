@@ -0,0 +1,189 @@
+package com.insurai.insurai_backend.service;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.insurai.insurai_backend.model.StoredDocument;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes claim documents to the uploads directory.
+ * Parts of one request are written in parallel through {@link FileChannel#transferFrom},
+ * hashing and counting the bytes on the way, so a file is never held on the heap.
+ */
+@Service
+@Slf4j
+public class ClaimDocumentStorageService {
+
+    private static final long TRANSFER_CHUNK_BYTES = 8L * 1024 * 1024;
+    private static final double BYTES_PER_MB = 1024.0 * 1024.0;
+    private static final int LATENCY_SAMPLES = 1024;
+
+    private final Path uploadDir;
+    private final ExecutorService writers;
+
+    // -------------------- Metrics --------------------
+    private final AtomicLong filesStored = new AtomicLong();
+    private final AtomicLong bytesStored = new AtomicLong();
+    private final AtomicLong writeNanos = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong orphansDeleted = new AtomicLong();
+
+    // Ring of the most recent write latencies, in milliseconds per MB
+    private final double[] millisPerMbSamples = new double[LATENCY_SAMPLES];
+    private long sampleCount;
+
+    public ClaimDocumentStorageService(@Value("${claims.upload.dir:./uploads/}") String uploadDir,
+                                       @Value("${claims.upload.writer-threads:4}") int writerThreads) {
+        this.uploadDir = Paths.get(uploadDir);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(writerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "claim-upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Store all parts of an upload. If any part fails, the parts already written are deleted.
+     */
+    public List<StoredDocument> store(List<MultipartFile> files) throws Exception {
+        if (files == null || files.isEmpty()) return List.of();
+        Files.createDirectories(uploadDir);
+
+        List<CompletableFuture<StoredDocument>> writes = new ArrayList<>(files.size());
+        for (MultipartFile file : files) {
+            writes.add(CompletableFuture.supplyAsync(() -> write(file), writers));
+        }
+
+        List<StoredDocument> stored = new ArrayList<>(files.size());
+        Exception failure = null;
+        for (CompletableFuture<StoredDocument> write : writes) {
+            try {
+                stored.add(write.join());
+            } catch (CompletionException e) {
+                failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+        if (failure != null) {
+            deleteQuietly(stored);
+            throw new Exception(failure.getMessage(), failure);
+        }
+        return stored;
+    }
+
+    /**
+     * Remove documents whose claim was never saved.
+     */
+    public void deleteQuietly(List<StoredDocument> documents) {
+        if (documents == null) return;
+        for (StoredDocument doc : documents) {
+            Path file = uploadDir.resolve(Paths.get(doc.getPath()).getFileName());
+            try {
+                if (Files.deleteIfExists(file)) orphansDeleted.incrementAndGet();
+            } catch (IOException e) {
+                log.warn("Could not delete orphaned upload {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private StoredDocument write(MultipartFile file) {
+        String uniqueName = UUID.randomUUID() + "_" + file.getOriginalFilename();
+        Path target = uploadDir.resolve(uniqueName);
+        long start = System.nanoTime();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long position = 0;
+            try (ReadableByteChannel source = Channels.newChannel(new DigestInputStream(file.getInputStream(), digest));
+                 FileChannel destination = FileChannel.open(target,
+                         StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long transferred;
+                while ((transferred = destination.transferFrom(source, position, TRANSFER_CHUNK_BYTES)) > 0) {
+                    position += transferred;
+                }
+            }
+            record(position, System.nanoTime() - start);
+            return new StoredDocument("/uploads/" + uniqueName, HexFormat.of().formatHex(digest.digest()), position);
+        } catch (IOException | NoSuchAlgorithmException e) {
+            failedWrites.incrementAndGet();
+            try {
+                Files.deleteIfExists(target);
+            } catch (IOException ignored) {
+                // Best effort; the original error is what matters
+            }
+            throw new RuntimeException("Failed to store file " + file.getOriginalFilename(), e);
+        }
+    }
+
+    private void record(long bytes, long nanos) {
+        filesStored.incrementAndGet();
+        bytesStored.addAndGet(bytes);
+        writeNanos.addAndGet(nanos);
+        if (bytes == 0) return;
+        double millisPerMb = (nanos / 1_000_000.0) / (bytes / BYTES_PER_MB);
+        synchronized (millisPerMbSamples) {
+            millisPerMbSamples[(int) (sampleCount++ % LATENCY_SAMPLES)] = millisPerMb;
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        double[] samples;
+        synchronized (millisPerMbSamples) {
+            samples = Arrays.copyOf(millisPerMbSamples, (int) Math.min(sampleCount, LATENCY_SAMPLES));
+        }
+        Arrays.sort(samples);
+
+        double seconds = writeNanos.get() / 1_000_000_000.0;
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("filesStored", filesStored.get());
+        metrics.put("bytesStored", bytesStored.get());
+        metrics.put("failedWrites", failedWrites.get());
+        metrics.put("orphansDeleted", orphansDeleted.get());
+        metrics.put("throughputMbPerSecond", seconds > 0 ? round(bytesStored.get() / BYTES_PER_MB / seconds) : 0);
+        metrics.put("p50MillisPerMb", percentile(samples, 0.50));
+        metrics.put("p99MillisPerMb", percentile(samples, 0.99));
+        return metrics;
+    }
+
+    private static double percentile(double[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return round(sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)]);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdown();
+    }
+}
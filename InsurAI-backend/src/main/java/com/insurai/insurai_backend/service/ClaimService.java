@@ -1,13 +1,19 @@
 package com.insurai.insurai_backend.service;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.ClaimSummary;
 import com.insurai.insurai_backend.model.Employee;
 import com.insurai.insurai_backend.model.Hr;
 import com.insurai.insurai_backend.repository.ClaimRepository;
@@ -15,18 +21,33 @@ import com.insurai.insurai_backend.repository.ClaimRepository;
 @Service
 public class ClaimService {
 
+    private static final int EXPORT_PAGE_SIZE = 500;
+    private static final int DOCUMENT_BATCH_SIZE = 1000;
+
     @Autowired
     private ClaimRepository claimRepository;
 
     @Autowired
     private HrService hrService;
 
+    @Autowired
+    private HrWorkloadRegistry hrWorkloadRegistry;
+
     @Autowired
     private NotificationService notificationService;
 
     @Autowired
     private FraudService fraudService;
 
+    @Autowired
+    private FraudFeatureStore fraudFeatureStore;
+
+    @Autowired
+    private AsyncFraudScoringService asyncFraudScoringService;
+
+    @Autowired
+    private DocumentFingerprintService documentFingerprintService;
+
     @Autowired
     private InAppNotificationService inAppNotificationService; // ✅ Added InAppNotificationService
 
@@ -46,33 +67,54 @@ public class ClaimService {
             claim.setClaimDate(LocalDateTime.now());
         }
 
-        // Fraud detection
-        try {
-            if (claim.getEmployee() != null && claim.getPolicy() != null) {
-                List<Claim> employeeClaims = claimRepository.findByEmployee(claim.getEmployee());
-                fraudService.runFraudDetection(claim, employeeClaims);
-            } else {
+        // Fraud detection (inline, or deferred to the async scoring stage)
+        boolean asyncFraud = asyncFraudScoringService.isEnabled()
+                && claim.getEmployee() != null && claim.getPolicy() != null;
+        if (asyncFraud) {
+            claim.setFraudFlag(false);
+            claim.setFraudReason(null);
+            claim.setFraudStatus(AsyncFraudScoringService.FRAUD_PENDING);
+        } else {
+            try {
+                if (claim.getEmployee() != null && claim.getPolicy() != null) {
+                    EmployeeFraudFeatures features = fraudFeatureStore.getFeatures(claim.getEmployee().getId());
+                    fraudService.runFraudDetection(claim, features);
+                } else {
+                    claim.setFraudFlag(false);
+                    claim.setFraudReason(null);
+                }
+            } catch (Exception e) {
+                System.err.println("⚠️ Fraud detection failed: " + e.getMessage());
                 claim.setFraudFlag(false);
                 claim.setFraudReason(null);
             }
-        } catch (Exception e) {
-            System.err.println("⚠️ Fraud detection failed: " + e.getMessage());
-            claim.setFraudFlag(false);
-            claim.setFraudReason(null);
+            claim.setFraudStatus(AsyncFraudScoringService.SCORED);
         }
 
-        // Automatic HR assignment
-        List<Hr> activeHrs = hrService.getAllActiveHrs();
-        Hr selectedHr = null;
-        if (!activeHrs.isEmpty()) {
-            selectedHr = activeHrs.stream()
-                    .min(Comparator.comparingInt(this::getPendingClaimCount))
-                    .orElse(null);
-            claim.setAssignedHr(selectedHr);
+        // Automatic HR assignment (fewest pending claims)
+        Long selectedHrId = hrWorkloadRegistry.assignClaim();
+        Hr selectedHr = selectedHrId != null ? hrService.getHrById(selectedHrId).orElse(null) : null;
+        if (selectedHrId != null && selectedHr == null) {
+            hrWorkloadRegistry.hrRemoved(selectedHrId); // deleted since the last reconciliation
         }
+        claim.setAssignedHr(selectedHr);
 
         // Save claim
-        Claim savedClaim = claimRepository.save(claim);
+        Claim savedClaim;
+        try {
+            savedClaim = claimRepository.save(claim);
+        } catch (RuntimeException e) {
+            if (selectedHr != null) hrWorkloadRegistry.claimResolved(selectedHr.getId());
+            throw e;
+        }
+        // Index uploaded files before async scoring reloads the claim
+        documentFingerprintService.register(savedClaim);
+        if (!asyncFraud) {
+            fraudFeatureStore.recordClaim(savedClaim);
+        } else if (!asyncFraudScoringService.submit(savedClaim.getId())) {
+            // Queue saturated: fall back to scoring on the request thread
+            asyncFraudScoringService.scoreClaim(savedClaim.getId());
+        }
 
         // Send email notification to employee
         try {
@@ -113,10 +155,6 @@ public class ClaimService {
         return savedClaim;
     }
 
-    private int getPendingClaimCount(Hr hr) {
-        return claimRepository.countByAssignedHrAndStatus(hr, "Pending");
-    }
-
     public List<Claim> getClaimsByEmployee(Employee employee) {return claimRepository.findByEmployeeWithDetails(employee);
     }
 
@@ -135,10 +173,14 @@ public class ClaimService {
         Claim claim = claimRepository.findByIdWithEmployee(claimId)
                 .orElseThrow(() -> new Exception("Claim not found"));
 
+        boolean wasPending = "Pending".equals(claim.getStatus());
         claim.setStatus("Approved");
         claim.setRemarks(remarks);
         claim.setUpdatedAt(LocalDateTime.now());
         Claim updatedClaim = claimRepository.save(claim);
+        if (wasPending && updatedClaim.getAssignedHr() != null) {
+            hrWorkloadRegistry.claimResolved(updatedClaim.getAssignedHr().getId());
+        }
 
         // Email notification
         if (updatedClaim.getEmployee() != null && updatedClaim.getEmployee().getEmail() != null) {
@@ -162,10 +204,14 @@ public class ClaimService {
         Claim claim = claimRepository.findByIdWithEmployee(claimId)
                 .orElseThrow(() -> new Exception("Claim not found"));
 
+        boolean wasPending = "Pending".equals(claim.getStatus());
         claim.setStatus("Rejected");
         claim.setRemarks(remarks);
         claim.setUpdatedAt(LocalDateTime.now());
         Claim updatedClaim = claimRepository.save(claim);
+        if (wasPending && updatedClaim.getAssignedHr() != null) {
+            hrWorkloadRegistry.claimResolved(updatedClaim.getAssignedHr().getId());
+        }
 
         // Email notification
         if (updatedClaim.getEmployee() != null && updatedClaim.getEmployee().getEmail() != null) {
@@ -202,19 +248,125 @@ public class ClaimService {
         return claimRepository.findById(claimId).orElse(null);
     }
 
+    /**
+     * Save an edited claim and index its new documents together, so a failure leaves neither.
+     */
+    @Transactional
     public Claim updateClaim(Claim claim) throws Exception {
         if (claim.getAmount() > claim.getPolicy().getCoverageAmount()) {
             throw new Exception("Claim amount exceeds policy coverage!");
         }
 
         claim.setUpdatedAt(LocalDateTime.now());
-        return claimRepository.save(claim);
+        Claim savedClaim = claimRepository.save(claim);
+        documentFingerprintService.register(savedClaim);
+
+        // Amount, date or documents may have changed: rebuild the employee's fraud features on next use
+        if (savedClaim.getEmployee() != null) {
+            fraudFeatureStore.invalidate(savedClaim.getEmployee().getId());
+        }
+        return savedClaim;
     }
 
     public List<Claim> getAllClaimsForAdmin() {
         return claimRepository.findAll();
     }
 
+    // -------------------- Listing projections --------------------
+
+    public List<ClaimSummary> getAllClaimSummaries() {
+        return withDocuments(claimRepository.findAllSummaries());
+    }
+
+    public List<ClaimSummary> getFraudClaimSummaries() {
+        return withDocuments(claimRepository.findFraudSummaries());
+    }
+
+    public List<ClaimSummary> getClaimSummariesByEmployee(Long employeeId) {
+        return withDocuments(claimRepository.findSummariesByEmployeeId(employeeId));
+    }
+
+    public List<ClaimSummary> getClaimSummariesByAssignedHr(Long hrId) {
+        return withDocuments(claimRepository.findSummariesByAssignedHrId(hrId));
+    }
+
+    public List<ClaimSummary> getFraudClaimSummariesByAssignedHr(Long hrId) {
+        return withDocuments(claimRepository.findFraudSummariesByAssignedHrId(hrId));
+    }
+
+    private List<ClaimSummary> withDocuments(List<ClaimSummary> summaries) {
+        Map<Long, List<String>> documents = getDocumentPathsByClaimIds(
+                summaries.stream().map(ClaimSummary::getId).toList());
+        for (ClaimSummary summary : summaries) {
+            summary.setDocuments(documents.getOrDefault(summary.getId(), List.of()));
+        }
+        return summaries;
+    }
+
+    // -------------------- Keyset listing & export --------------------
+
+    /**
+     * One page of claims, newest first, after the given cursor (null or blank for the first page).
+     * Null filters match every claim.
+     */
+    public List<Claim> getClaimsPage(String status, Boolean fraudFlag, Long hrId, String cursor, int limit) throws Exception {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        return claimRepository.findPageAfter(status, fraudFlag, hrId, after.at(), after.id(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * Cursor for the page that follows this claim, or null if the claim cannot be used as a keyset position.
+     */
+    public static String nextCursor(Claim last) {
+        return KeysetCursor.encode(last.getCreatedAt(), last.getId());
+    }
+
+    /**
+     * Document paths of a batch of claims in one query, keyed by claim ID.
+     */
+    public Map<Long, List<String>> getDocumentPaths(List<Claim> claims) {
+        return getDocumentPathsByClaimIds(claims.stream().map(Claim::getId).toList());
+    }
+
+    // One IN query per DOCUMENT_BATCH_SIZE claims
+    private Map<Long, List<String>> getDocumentPathsByClaimIds(List<Long> claimIds) {
+        Map<Long, List<String>> documents = new HashMap<>();
+        for (int from = 0; from < claimIds.size(); from += DOCUMENT_BATCH_SIZE) {
+            List<Long> batch = claimIds.subList(from, Math.min(from + DOCUMENT_BATCH_SIZE, claimIds.size()));
+            for (Object[] row : claimRepository.findDocumentPathsByClaimIds(batch)) {
+                documents.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+            }
+        }
+        return documents;
+    }
+
+    /**
+     * Hand every matching claim, newest first, to {@code action} together with its document paths.
+     * Claims are read page by page on the listing keyset, so memory stays flat however large the table is.
+     *
+     * @return number of claims exported
+     */
+    public long exportClaims(String status, Boolean fraudFlag, Long hrId, BiConsumer<Claim, List<String>> action) {
+        long exported = 0;
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        while (true) {
+            List<Claim> page = claimRepository.findPageAfter(status, fraudFlag, hrId, afterCreatedAt, afterId,
+                    PageRequest.of(0, EXPORT_PAGE_SIZE));
+            Map<Long, List<String>> documents = getDocumentPaths(page);
+            for (Claim claim : page) {
+                action.accept(claim, documents.getOrDefault(claim.getId(), List.of()));
+            }
+            exported += page.size();
+
+            Claim last = page.isEmpty() ? null : page.get(page.size() - 1);
+            if (page.size() < EXPORT_PAGE_SIZE || last.getCreatedAt() == null) break;
+            afterCreatedAt = last.getCreatedAt();
+            afterId = last.getId();
+        }
+        return exported;
+    }
+
     public List<Claim> getFraudClaimsByAssignedHr(Long hrId) {
         return claimRepository.findByAssignedHrIdAndFraudFlag(hrId, true);
     }
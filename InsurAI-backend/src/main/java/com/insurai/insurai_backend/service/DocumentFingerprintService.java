@@ -0,0 +1,101 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.DocumentFingerprint;
+import com.insurai.insurai_backend.model.StoredDocument;
+import com.insurai.insurai_backend.repository.DocumentFingerprintRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Content-hash index of uploaded claim documents, used to detect the same file
+ * being attached to more than one claim regardless of its stored name.
+ */
+@Service
+@RequiredArgsConstructor
+public class DocumentFingerprintService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final DocumentFingerprintRepository fingerprintRepository;
+
+    /**
+     * Index the documents uploaded with a saved claim.
+     */
+    public void register(Claim claim) {
+        if (claim.getId() == null || claim.getEmployee() == null || claim.getUploadedDocuments() == null) return;
+
+        List<DocumentFingerprint> fingerprints = claim.getUploadedDocuments().stream()
+                .filter(doc -> doc.getContentHash() != null)
+                .map(doc -> new DocumentFingerprint(doc.getContentHash(), claim.getId(),
+                        claim.getEmployee().getId(), doc.getPath(), doc.getSizeBytes()))
+                .collect(Collectors.toList());
+        if (!fingerprints.isEmpty()) {
+            fingerprintRepository.saveAll(fingerprints);
+        }
+    }
+
+    /**
+     * Content hashes of a claim's documents: from the current upload, or from the index for a saved claim.
+     */
+    public Set<String> getContentHashes(Claim claim) {
+        if (claim.getUploadedDocuments() != null && !claim.getUploadedDocuments().isEmpty()) {
+            return claim.getUploadedDocuments().stream()
+                    .map(StoredDocument::getContentHash)
+                    .filter(hash -> hash != null)
+                    .collect(Collectors.toSet());
+        }
+        if (claim.getId() == null) return Set.of();
+        return fingerprintRepository.findByClaimId(claim.getId()).stream()
+                .map(DocumentFingerprint::getContentHash)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Whether any of the hashes belongs to an earlier claim (of any employee).
+     * A new claim matches every indexed file; a saved claim only matches claims with a lower ID,
+     * so re-scoring it does not match its own fingerprints.
+     */
+    public boolean isReused(Set<String> contentHashes, Long claimId) {
+        if (contentHashes.isEmpty()) return false;
+        return claimId == null
+                ? fingerprintRepository.existsByContentHashIn(contentHashes)
+                : fingerprintRepository.existsByContentHashInAndClaimIdLessThan(contentHashes, claimId);
+    }
+
+    /**
+     * Preload the fingerprints of saved claims, and the lowest claim ID using each of their files,
+     * in a few IN queries of at most 1000 values.
+     */
+    public DocumentFingerprintSnapshot snapshot(List<Long> claimIds) {
+        Map<Long, Set<String>> hashesByClaim = new HashMap<>();
+        for (int from = 0; from < claimIds.size(); from += BATCH_SIZE) {
+            List<Long> batch = claimIds.subList(from, Math.min(from + BATCH_SIZE, claimIds.size()));
+            for (DocumentFingerprint fingerprint : fingerprintRepository.findByClaimIdIn(batch)) {
+                hashesByClaim.computeIfAbsent(fingerprint.getClaimId(), id -> new HashSet<>()).add(fingerprint.getContentHash());
+            }
+        }
+
+        List<String> hashes = new ArrayList<>(hashesByClaim.values().stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet()));
+        Map<String, Long> firstClaimIdByHash = new HashMap<>();
+        for (int from = 0; from < hashes.size(); from += BATCH_SIZE) {
+            List<String> batch = hashes.subList(from, Math.min(from + BATCH_SIZE, hashes.size()));
+            for (Object[] row : fingerprintRepository.findFirstClaimIdByContentHashIn(batch)) {
+                firstClaimIdByHash.put((String) row[0], (Long) row[1]);
+            }
+        }
+        return new DocumentFingerprintSnapshot(hashesByClaim, firstClaimIdByHash);
+    }
+}
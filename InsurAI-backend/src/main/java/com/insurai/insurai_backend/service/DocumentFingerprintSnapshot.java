@@ -0,0 +1,35 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fingerprints of a batch of saved claims, preloaded so a bulk re-scan can answer
+ * reused-document checks without querying per claim.
+ */
+public class DocumentFingerprintSnapshot {
+
+    private final Map<Long, Set<String>> hashesByClaim;
+    private final Map<String, Long> firstClaimIdByHash;
+
+    DocumentFingerprintSnapshot(Map<Long, Set<String>> hashesByClaim, Map<String, Long> firstClaimIdByHash) {
+        this.hashesByClaim = hashesByClaim;
+        this.firstClaimIdByHash = firstClaimIdByHash;
+    }
+
+    public Set<String> getContentHashes(Long claimId) {
+        return hashesByClaim.getOrDefault(claimId, Set.of());
+    }
+
+    /**
+     * Whether any of the hashes belongs to a claim with a lower ID, as
+     * {@link DocumentFingerprintService#isReused} answers for a saved claim.
+     */
+    public boolean isReused(Set<String> contentHashes, Long claimId) {
+        for (String hash : contentHashes) {
+            Long first = firstClaimIdByHash.get(hash);
+            if (first != null && first < claimId) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,260 @@
+package com.insurai.insurai_backend.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.insurai.insurai_backend.model.EmailOutbox;
+import com.insurai.insurai_backend.repository.EmailOutboxRepository;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persistent outbound mail queue.
+ * Callers only insert an outbox row (inside their own transaction, if any); a scheduled
+ * dispatcher sends due messages in batches over a single SMTP connection, retries
+ * failures with exponential backoff and parks messages as DEAD after the last attempt.
+ * Each instance claims its batch with SELECT ... FOR UPDATE SKIP LOCKED and leases it by moving
+ * next_attempt_at forward, so instances never send the same batch; a batch whose dispatcher died
+ * becomes due again when the lease runs out.
+ */
+@Service
+@Slf4j
+public class EmailOutboxService {
+
+    public static final String PENDING = "PENDING";
+    public static final String SENT = "SENT";
+    public static final String DEAD = "DEAD";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO email_outbox (recipient, subject, body, status, attempts, next_attempt_at, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final EmailOutboxRepository outboxRepository;
+    private final JavaMailSender mailSender;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final long leaseSeconds;
+
+    // -------------------- Dispatcher metrics --------------------
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+
+    public EmailOutboxService(EmailOutboxRepository outboxRepository,
+                              JavaMailSender mailSender,
+                              JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${mail.outbox.batch-size:50}") int batchSize,
+                              @Value("${mail.outbox.max-attempts:6}") int maxAttempts,
+                              @Value("${mail.outbox.initial-backoff-seconds:30}") long initialBackoffSeconds,
+                              @Value("${mail.outbox.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                              @Value("${mail.outbox.lease-seconds:300}") long leaseSeconds) {
+        this.outboxRepository = outboxRepository;
+        this.mailSender = mailSender;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffSeconds = initialBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    /**
+     * Queue an HTML email for delivery.
+     */
+    public EmailOutbox enqueue(String to, String subject, String htmlBody) {
+        return enqueue(new EmailOutbox(to, subject, htmlBody));
+    }
+
+    public EmailOutbox enqueue(EmailOutbox email) {
+        EmailOutbox saved = outboxRepository.save(email);
+        enqueued.incrementAndGet();
+        return saved;
+    }
+
+    /**
+     * Queue many emails with JDBC batch inserts, in the caller's transaction.
+     */
+    public int enqueueAll(List<EmailOutbox> emails) {
+        if (emails.isEmpty()) return 0;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, emails, batchSize, (ps, email) -> {
+            ps.setString(1, email.getRecipient());
+            ps.setString(2, email.getSubject());
+            ps.setString(3, email.getBody());
+            ps.setString(4, email.getStatus());
+            ps.setInt(5, email.getAttempts());
+            ps.setTimestamp(6, Timestamp.valueOf(email.getNextAttemptAt()));
+            ps.setTimestamp(7, Timestamp.valueOf(email.getCreatedAt()));
+        });
+        enqueued.addAndGet(emails.size());
+        return emails.size();
+    }
+
+    /**
+     * Send due messages until none are left, one SMTP connection per batch.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        List<EmailOutbox> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) sendBatch(batch);
+        } while (batch.size() == batchSize);
+    }
+
+    // Rows locked by another dispatcher are skipped; the claimed ones stay out of every
+    // dispatcher's due set until the lease ends or the send outcome is saved
+    private List<EmailOutbox> claimBatch() {
+        List<EmailOutbox> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> due = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                    PENDING, now, PageRequest.of(0, batchSize));
+            LocalDateTime leaseEnd = now.plusSeconds(leaseSeconds);
+            due.forEach(email -> email.setNextAttemptAt(leaseEnd));
+            return due;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private void sendBatch(List<EmailOutbox> batch) {
+        batches.incrementAndGet();
+        Map<MimeMessage, EmailOutbox> byMessage = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        for (EmailOutbox email : batch) {
+            try {
+                MimeMessage message = toMimeMessage(email);
+                byMessage.put(message, email);
+                messages.add(message);
+            } catch (MessagingException e) {
+                // Malformed message: retrying will not help
+                markDead(email, e.getMessage());
+            }
+        }
+
+        Map<Object, Exception> failures = Map.of();
+        if (!messages.isEmpty()) {
+            try {
+                // JavaMailSender sends all messages over one transport connection
+                mailSender.send(messages.toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+            } catch (MailException e) {
+                failures = allFailed(messages, e);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (MimeMessage message : messages) {
+            EmailOutbox email = byMessage.get(message);
+            Exception failure = failures.get(message);
+            if (failure == null) {
+                email.setStatus(SENT);
+                email.setSentAt(now);
+                email.setLastError(null);
+                sent.incrementAndGet();
+            } else {
+                recordFailure(email, failure.getMessage(), now);
+            }
+        }
+        outboxRepository.saveAll(batch);
+    }
+
+    private MimeMessage toMimeMessage(EmailOutbox email) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+        return mimeMessage;
+    }
+
+    private void recordFailure(EmailOutbox email, String error, LocalDateTime now) {
+        email.setAttempts(email.getAttempts() + 1);
+        if (email.getAttempts() >= maxAttempts) {
+            markDead(email, error);
+            return;
+        }
+        long backoff = Math.min(maxBackoffSeconds, initialBackoffSeconds << Math.min(email.getAttempts() - 1, 20));
+        email.setNextAttemptAt(now.plusSeconds(backoff));
+        email.setLastError(truncate(error));
+        retried.incrementAndGet();
+    }
+
+    private void markDead(EmailOutbox email, String error) {
+        email.setStatus(DEAD);
+        email.setLastError(truncate(error));
+        deadLettered.incrementAndGet();
+        log.warn("Email #{} to {} moved to dead letters: {}", email.getId(), email.getRecipient(), error);
+    }
+
+    private static Map<Object, Exception> allFailed(List<MimeMessage> messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>();
+        messages.forEach(message -> failures.put(message, e));
+        return failures;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) return null;
+        return error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    // -------------------- Dead letters --------------------
+
+    public List<EmailOutbox> getDeadLetters(int limit) {
+        return outboxRepository.findByStatusOrderByIdDesc(DEAD, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Put a dead message back in the queue with a fresh attempt budget.
+     */
+    public EmailOutbox retryDeadLetter(Long id) throws Exception {
+        EmailOutbox email = outboxRepository.findById(id)
+                .orElseThrow(() -> new Exception("Outbox email not found with ID: " + id));
+        if (!DEAD.equals(email.getStatus())) {
+            throw new Exception("Only dead emails can be retried. Current status: " + email.getStatus());
+        }
+        email.setStatus(PENDING);
+        email.setAttempts(0);
+        email.setNextAttemptAt(LocalDateTime.now());
+        return outboxRepository.save(email);
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("pending", outboxRepository.countByStatus(PENDING));
+        metrics.put("dead", outboxRepository.countByStatus(DEAD));
+        metrics.put("enqueued", enqueued.get());
+        metrics.put("sent", sent.get());
+        metrics.put("retried", retried.get());
+        metrics.put("deadLettered", deadLettered.get());
+        metrics.put("batches", batches.get());
+        return metrics;
+    }
+}
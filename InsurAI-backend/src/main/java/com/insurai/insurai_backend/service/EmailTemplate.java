@@ -0,0 +1,98 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An HTML template compiled once into literal segments and slots.
+ * Slots are written as {@code {{name}}}, or {@code {{name:money}}} for amounts
+ * formatted as {@code %,.2f}. Rendering appends the segments and slot values
+ * straight into the caller's buffer.
+ */
+public final class EmailTemplate {
+
+    private enum SlotType { TEXT, MONEY }
+
+    private final String[] literals;   // literals[i] precedes slot i; the last one follows the last slot
+    private final String[] slotNames;
+    private final SlotType[] slotTypes;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, String[] slotNames, SlotType[] slotTypes) {
+        this.literals = literals;
+        this.slotNames = slotNames;
+        this.slotTypes = slotTypes;
+        int length = 0;
+        for (String literal : literals) length += literal.length();
+        this.literalLength = length;
+    }
+
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<SlotType> types = new ArrayList<>();
+
+        int position = 0;
+        int open;
+        while ((open = source.indexOf("{{", position)) >= 0) {
+            int close = source.indexOf("}}", open);
+            if (close < 0) throw new IllegalArgumentException("Unclosed slot at offset " + open);
+            literals.add(source.substring(position, open));
+
+            String slot = source.substring(open + 2, close).trim();
+            int colon = slot.indexOf(':');
+            if (colon < 0) {
+                names.add(slot);
+                types.add(SlotType.TEXT);
+            } else {
+                names.add(slot.substring(0, colon));
+                types.add(SlotType.valueOf(slot.substring(colon + 1).toUpperCase(Locale.ROOT)));
+            }
+            position = close + 2;
+        }
+        literals.add(source.substring(position));
+
+        return new EmailTemplate(literals.toArray(new String[0]), names.toArray(new String[0]),
+                types.toArray(new SlotType[0]));
+    }
+
+    /**
+     * Append the rendered template to {@code out}. Null values render as "null", as string concatenation did.
+     */
+    public void renderTo(StringBuilder out, Map<String, ?> values) {
+        out.ensureCapacity(out.length() + literalLength + 64 * slotNames.length);
+        for (int i = 0; i < slotNames.length; i++) {
+            out.append(literals[i]);
+            if (!values.containsKey(slotNames[i])) {
+                throw new IllegalArgumentException("No value for template slot '" + slotNames[i] + "'");
+            }
+            Object value = values.get(slotNames[i]);
+            if (slotTypes[i] == SlotType.MONEY) {
+                out.append(String.format("%,.2f", value));
+            } else {
+                out.append(value);
+            }
+        }
+        out.append(literals[literals.length - 1]);
+    }
+
+    public String render(Map<String, ?> values) {
+        StringBuilder out = new StringBuilder(literalLength + 64 * slotNames.length);
+        renderTo(out, values);
+        return out.toString();
+    }
+
+    /**
+     * Slot values from alternating names and values; unlike {@code Map.of}, values may be null.
+     */
+    public static Map<String, Object> slots(Object... namesAndValues) {
+        Map<String, Object> values = new HashMap<>(namesAndValues.length);
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            values.put((String) namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return values;
+    }
+}
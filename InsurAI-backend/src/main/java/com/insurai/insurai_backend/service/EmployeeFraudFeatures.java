@@ -0,0 +1,170 @@
+package com.insurai.insurai_backend.service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import com.insurai.insurai_backend.model.Claim;
+
+/**
+ * Running fraud features for one employee's claim history.
+ * Kept up to date by {@link FraudFeatureStore} so every fraud rule can be
+ * answered without reloading the employee's claims.
+ */
+public class EmployeeFraudFeatures {
+
+    // Day buckets older than this (relative to the newest day seen) are pruned
+    private static final long RETENTION_DAYS = 45;
+
+    private final Long employeeId;
+
+    // Claims already folded into the features (keeps add/remove idempotent)
+    private final Set<Long> claimIds = new HashSet<>();
+
+    // Running totals for the average claim amount
+    private double amountSum;
+    private long amountCount;
+
+    // createdAt day (epoch day) -> number of claims created that day
+    private final NavigableMap<Long, Integer> createdPerDay = new TreeMap<>();
+
+    // lower-cased title -> (claim day -> number of claims)
+    private final Map<String, NavigableMap<Long, Integer>> titleClaimDays = new HashMap<>();
+
+    // "policyId|amount|date" -> number of claims
+    private final Map<String, Integer> duplicateKeys = new HashMap<>();
+
+    // normalized document path -> number of claims referencing it
+    private final Map<String, Integer> documentFingerprints = new HashMap<>();
+
+    private long newestDay = Long.MIN_VALUE;
+
+    public EmployeeFraudFeatures(Long employeeId) {
+        this.employeeId = employeeId;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    // -------------------- Updates --------------------
+
+    /**
+     * Fold a claim into the features. Claims with an ID are only counted once.
+     */
+    public synchronized void add(Claim claim) {
+        if (claim.getId() != null && !claimIds.add(claim.getId())) return;
+        apply(claim, 1);
+    }
+
+    /**
+     * Remove a previously added claim from the features.
+     */
+    public synchronized void remove(Claim claim) {
+        if (claim.getId() == null || !claimIds.remove(claim.getId())) return;
+        apply(claim, -1);
+    }
+
+    public synchronized boolean contains(Long claimId) {
+        return claimId != null && claimIds.contains(claimId);
+    }
+
+    private void apply(Claim claim, int delta) {
+        if (claim.getAmount() != null) {
+            amountSum += delta * claim.getAmount();
+            amountCount += delta;
+        }
+
+        if (claim.getCreatedAt() != null) {
+            long day = claim.getCreatedAt().toLocalDate().toEpochDay();
+            bump(createdPerDay, day, delta);
+            newestDay = Math.max(newestDay, day);
+        }
+
+        if (claim.getClaimDate() != null) {
+            long day = claim.getClaimDate().toLocalDate().toEpochDay();
+            if (claim.getTitle() != null) {
+                NavigableMap<Long, Integer> days = titleClaimDays.computeIfAbsent(normalize(claim.getTitle()), t -> new TreeMap<>());
+                bump(days, day, delta);
+                if (days.isEmpty()) titleClaimDays.remove(normalize(claim.getTitle()));
+            }
+            if (claim.getPolicy() != null && claim.getAmount() != null) {
+                bump(duplicateKeys, duplicateKey(claim.getPolicy().getId(), claim.getAmount(), claim.getClaimDate().toLocalDate()), delta);
+            }
+        }
+
+        if (claim.getDocuments() != null) {
+            for (String doc : claim.getDocuments()) {
+                if (doc != null) bump(documentFingerprints, normalize(doc), delta);
+            }
+        }
+
+        if (delta > 0) prune();
+    }
+
+    private void prune() {
+        long cutoff = newestDay - RETENTION_DAYS;
+        createdPerDay.headMap(cutoff, false).clear();
+        titleClaimDays.values().forEach(days -> days.headMap(cutoff, false).clear());
+        titleClaimDays.values().removeIf(Map::isEmpty);
+    }
+
+    // -------------------- Queries --------------------
+
+    public synchronized boolean hasDuplicate(Long policyId, Double amount, LocalDate claimDate) {
+        return duplicateKeys.containsKey(duplicateKey(policyId, amount, claimDate));
+    }
+
+    public synchronized long countCreatedSince(LocalDate fromInclusive) {
+        return sum(createdPerDay.tailMap(fromInclusive.toEpochDay(), true));
+    }
+
+    public synchronized long countTitleSince(String title, LocalDate fromInclusive) {
+        if (title == null) return 0;
+        NavigableMap<Long, Integer> days = titleClaimDays.get(normalize(title));
+        return days == null ? 0 : sum(days.tailMap(fromInclusive.toEpochDay(), true));
+    }
+
+    public synchronized double averageAmount() {
+        return amountCount > 0 ? amountSum / amountCount : 0;
+    }
+
+    public synchronized boolean hasAnyDocument(Collection<String> documents) {
+        if (documents == null) return false;
+        for (String doc : documents) {
+            if (doc != null && documentFingerprints.containsKey(normalize(doc))) return true;
+        }
+        return false;
+    }
+
+    public synchronized int claimCount() {
+        return claimIds.size();
+    }
+
+    // -------------------- Helpers --------------------
+
+    private static String duplicateKey(Long policyId, Double amount, LocalDate claimDate) {
+        return policyId + "|" + amount + "|" + claimDate;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static <K> void bump(Map<K, Integer> counts, K key, int delta) {
+        counts.merge(key, delta, Integer::sum);
+        if (counts.get(key) <= 0) counts.remove(key);
+    }
+
+    private static long sum(Map<Long, Integer> counts) {
+        long total = 0;
+        for (int count : counts.values()) total += count;
+        return total;
+    }
+}
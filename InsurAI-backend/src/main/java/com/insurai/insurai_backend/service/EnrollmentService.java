@@ -2,8 +2,6 @@ package com.insurai.insurai_backend.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,10 +26,12 @@ public class EnrollmentService {
     private final EnrollmentRepository enrollmentRepository;
     private final DependentRepository dependentRepository;
     private final HrService hrService;
+    private final HrWorkloadRegistry hrWorkloadRegistry;
     private final PolicyService policyService;
     private final AuditLogService auditLogService;
     private final InAppNotificationService inAppNotificationService;
     private final NotificationService notificationService;
+    private final StatisticsSnapshotService statisticsSnapshotService;
 
     /**
      * Create a new enrollment request
@@ -67,6 +67,7 @@ public class EnrollmentService {
 
         // Save enrollment
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        statisticsSnapshotService.enrollmentsChanged();
 
         // Add dependents if Family coverage
         if ("Family".equalsIgnoreCase(coverageType) && dependents != null && !dependents.isEmpty()) {
@@ -128,11 +129,15 @@ public class EnrollmentService {
         }
 
         enrollment.setStatus("Approved");
+        if (enrollment.getAssignedHr() != null) {
+            hrWorkloadRegistry.enrollmentResolved(enrollment.getAssignedHr().getId());
+        }
         enrollment.setRemarks(remarks);
         enrollment.setEffectiveDate(effectiveDate != null ? effectiveDate : LocalDate.now());
         enrollment.setUpdatedAt(LocalDateTime.now());
 
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        statisticsSnapshotService.enrollmentsChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -180,10 +185,14 @@ public class EnrollmentService {
         }
 
         enrollment.setStatus("Rejected");
+        if (enrollment.getAssignedHr() != null) {
+            hrWorkloadRegistry.enrollmentResolved(enrollment.getAssignedHr().getId());
+        }
         enrollment.setRemarks(reason);
         enrollment.setUpdatedAt(LocalDateTime.now());
 
         Enrollment savedEnrollment = enrollmentRepository.save(enrollment);
+        statisticsSnapshotService.enrollmentsChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -283,13 +292,7 @@ public class EnrollmentService {
      * Get enrollment statistics
      */
     public Map<String, Object> getEnrollmentStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalEnrollments", enrollmentRepository.count());
-        stats.put("pendingCount", enrollmentRepository.countByStatus("Pending"));
-        stats.put("approvedCount", enrollmentRepository.countByStatus("Approved"));
-        stats.put("rejectedCount", enrollmentRepository.countByStatus("Rejected"));
-        stats.put("activeCount", enrollmentRepository.countByStatus("Active"));
-        return stats;
+        return statisticsSnapshotService.getEnrollmentStatistics();
     }
 
     /**
@@ -317,15 +320,9 @@ public class EnrollmentService {
     }
 
     private Hr assignHrForApproval() {
-        List<Hr> activeHrs = hrService.getAllActiveHrs();
-        if (activeHrs.isEmpty()) {
-            return null;
-        }
         // Load-balanced assignment: assign to HR with least pending enrollments
-        return activeHrs.stream()
-                .min(Comparator.comparingInt(hr ->
-                        enrollmentRepository.findByAssignedHrAndStatus(hr, "Pending").size()))
-                .orElse(activeHrs.get(0));
+        Long hrId = hrWorkloadRegistry.assignEnrollment();
+        return hrId != null ? hrService.getHrById(hrId).orElse(null) : null;
     }
 }
 
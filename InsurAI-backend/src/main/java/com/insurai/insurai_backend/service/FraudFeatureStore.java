@@ -0,0 +1,125 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.repository.ClaimRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-employee fraud feature store.
+ * An employee's claim history is loaded once, then kept current as claims are saved,
+ * so fraud checks no longer rescan the whole history on every submission.
+ * A load is only cached if none of the employee's claims changed while it ran; change
+ * versions are kept per stripe of employee IDs.
+ */
+@Service
+@Slf4j
+public class FraudFeatureStore {
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final ClaimRepository claimRepository;
+    private final Map<Long, EmployeeFraudFeatures> featuresByEmployee;
+    private final long[] versions = new long[VERSION_STRIPES]; // guarded by featuresByEmployee
+
+    public FraudFeatureStore(ClaimRepository claimRepository,
+                             @Value("${fraud.feature-store.max-employees:10000}") int maxEmployees) {
+        this.claimRepository = claimRepository;
+        // Access-ordered LRU: least recently scored employees are evicted and reloaded on demand
+        this.featuresByEmployee = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, EmployeeFraudFeatures> eldest) {
+                return size() > maxEmployees;
+            }
+        });
+    }
+
+    /**
+     * Get the features for an employee, loading their claim history on first use.
+     */
+    public EmployeeFraudFeatures getFeatures(Long employeeId) {
+        EmployeeFraudFeatures existing = featuresByEmployee.get(employeeId);
+        if (existing != null) return existing;
+
+        long loadVersion = version(employeeId);
+        EmployeeFraudFeatures loaded = load(employeeId);
+        synchronized (featuresByEmployee) {
+            // A claim saved or edited while loading may be missing from this history: use it once, don't cache it
+            if (versions[stripe(employeeId)] != loadVersion) return loaded;
+            EmployeeFraudFeatures raced = featuresByEmployee.putIfAbsent(employeeId, loaded);
+            return raced != null ? raced : loaded;
+        }
+    }
+
+    /**
+     * Fold a saved claim into its employee's features (no-op if the employee is not cached).
+     */
+    public void recordClaim(Claim claim) {
+        if (claim.getEmployee() == null) return;
+        Long employeeId = claim.getEmployee().getId();
+        EmployeeFraudFeatures features;
+        synchronized (featuresByEmployee) {
+            features = featuresByEmployee.get(employeeId);
+            if (features == null) versions[stripe(employeeId)]++; // a load in progress may not see this claim
+        }
+        if (features != null) {
+            features.add(claim);
+        }
+    }
+
+    /**
+     * Drop an employee's features, e.g. after one of their claims was edited.
+     */
+    public void invalidate(Long employeeId) {
+        if (employeeId == null) return;
+        drop(employeeId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A load inside the transaction window may have read the pre-commit rows
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop(employeeId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return featuresByEmployee.size();
+    }
+
+    private void drop(Long employeeId) {
+        synchronized (featuresByEmployee) {
+            versions[stripe(employeeId)]++;
+            featuresByEmployee.remove(employeeId);
+        }
+    }
+
+    private long version(Long employeeId) {
+        synchronized (featuresByEmployee) {
+            return versions[stripe(employeeId)];
+        }
+    }
+
+    private static int stripe(Long employeeId) {
+        return Math.floorMod(employeeId.hashCode(), VERSION_STRIPES);
+    }
+
+    private EmployeeFraudFeatures load(Long employeeId) {
+        List<Claim> history = claimRepository.findFraudHistoryByEmployeeId(employeeId);
+        EmployeeFraudFeatures features = new EmployeeFraudFeatures(employeeId);
+        history.forEach(features::add);
+        log.debug("Loaded fraud features for employee {} from {} claims", employeeId, history.size());
+        return features;
+    }
+}
@@ -0,0 +1,230 @@
+package com.insurai.insurai_backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.FraudRescanJob;
+import com.insurai.insurai_backend.repository.ClaimRepository;
+import com.insurai.insurai_backend.repository.FraudRescanJobRepository;
+import com.insurai.insurai_backend.service.fraud.FraudContext;
+import com.insurai.insurai_backend.service.fraud.FraudEvaluationResult;
+import com.insurai.insurai_backend.service.fraud.FraudRuleEngine;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Admin-triggered re-scan of every claim against the current fraud rules.
+ * Employees are walked in keyset-paginated chunks; each employee's history is
+ * loaded once and replayed in submission order on a fork-join pool, and results
+ * are written back in JDBC batches. A checkpoint after every chunk makes the job
+ * resumable after a crash.
+ */
+@Service
+@Slf4j
+public class FraudRescanService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE claims SET fraud_flag = ?, fraud_reason = ?, fraud_score = ?, fraud_status = ? WHERE id = ?";
+
+    private final ClaimRepository claimRepository;
+    private final FraudRescanJobRepository jobRepository;
+    private final FraudRuleEngine fraudRuleEngine;
+    private final DocumentFingerprintService documentFingerprintService;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogService auditLogService;
+    private final int chunkSize;
+    private final int batchSize;
+    private final ForkJoinPool scoringPool;
+    private final ExecutorService jobRunner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "fraud-rescan");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile FraudRescanJob currentJob;
+
+    public FraudRescanService(ClaimRepository claimRepository,
+                              FraudRescanJobRepository jobRepository,
+                              FraudRuleEngine fraudRuleEngine,
+                              DocumentFingerprintService documentFingerprintService,
+                              JdbcTemplate jdbcTemplate,
+                              AuditLogService auditLogService,
+                              @Value("${fraud.rescan.chunk-size:200}") int chunkSize,
+                              @Value("${fraud.rescan.batch-size:500}") int batchSize,
+                              @Value("${fraud.rescan.parallelism:0}") int parallelism) {
+        this.claimRepository = claimRepository;
+        this.jobRepository = jobRepository;
+        this.fraudRuleEngine = fraudRuleEngine;
+        this.documentFingerprintService = documentFingerprintService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditLogService = auditLogService;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.scoringPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Start a new re-scan, or resume the latest one if it did not complete.
+     */
+    public synchronized FraudRescanJob startOrResume(String adminEmail) {
+        if (currentJob != null && "RUNNING".equals(currentJob.getStatus())) {
+            return currentJob;
+        }
+
+        FraudRescanJob job = jobRepository.findTopByOrderByIdDesc()
+                .filter(j -> !"COMPLETED".equals(j.getStatus()))
+                .orElseGet(() -> {
+                    FraudRescanJob fresh = new FraudRescanJob();
+                    fresh.setTotalClaims(claimRepository.count());
+                    return fresh;
+                });
+        boolean resumed = job.getId() != null;
+
+        job.setStatus("RUNNING");
+        job.setStartedBy(adminEmail);
+        job.setLastError(null);
+        job.setUpdatedAt(LocalDateTime.now());
+        currentJob = jobRepository.save(job);
+
+        auditLogService.logAction(
+                adminEmail,
+                "Admin",
+                "ADMIN",
+                "FRAUD_RESCAN_STARTED",
+                (resumed ? "Resumed" : "Started") + " fraud re-scan job #" + currentJob.getId()
+                        + " from employee ID " + currentJob.getLastEmployeeId()
+        );
+
+        FraudRescanJob running = currentJob;
+        jobRunner.execute(() -> run(running));
+        return running;
+    }
+
+    /**
+     * Latest job with live progress.
+     */
+    public Optional<FraudRescanJob> getLatestJob() {
+        FraudRescanJob running = currentJob;
+        return running != null ? Optional.of(running) : jobRepository.findTopByOrderByIdDesc();
+    }
+
+    private void run(FraudRescanJob job) {
+        long runStart = System.nanoTime();
+        long claimsAtRunStart = job.getClaimsProcessed();
+        try {
+            while (true) {
+                List<Long> employeeIds = claimRepository.findEmployeeIdsWithClaimsAfter(
+                        job.getLastEmployeeId(), PageRequest.of(0, chunkSize));
+                if (employeeIds.isEmpty()) break;
+
+                List<Claim> claims = claimRepository.findFraudHistoryByEmployeeIds(employeeIds);
+                Map<Long, List<Claim>> partitions = claims.stream()
+                        .collect(Collectors.groupingBy(c -> c.getEmployee().getId()));
+                // One batch of fingerprint queries per chunk instead of two queries per claim with documents
+                DocumentFingerprintSnapshot fingerprints = documentFingerprintService.snapshot(claims.stream()
+                        .filter(c -> c.getDocuments() != null && !c.getDocuments().isEmpty())
+                        .map(Claim::getId)
+                        .toList());
+
+                List<Object[]> updates = scoringPool.submit(() -> partitions.values().parallelStream()
+                        .map(partition -> replay(partition, fingerprints))
+                        .flatMap(Collection::stream)
+                        .collect(Collectors.toList())).get();
+
+                jdbcTemplate.batchUpdate(UPDATE_SQL, updates, batchSize, (ps, row) -> {
+                    ps.setBoolean(1, (Boolean) row[0]);
+                    ps.setString(2, (String) row[1]);
+                    ps.setDouble(3, (Double) row[2]);
+                    ps.setString(4, AsyncFraudScoringService.SCORED);
+                    ps.setLong(5, (Long) row[3]);
+                });
+
+                // Checkpoint after the chunk is written; replaying a chunk is idempotent
+                long flagged = updates.stream().filter(row -> (Boolean) row[0]).count();
+                job.setLastEmployeeId(employeeIds.get(employeeIds.size() - 1));
+                job.setEmployeesProcessed(job.getEmployeesProcessed() + partitions.size());
+                job.setClaimsProcessed(job.getClaimsProcessed() + updates.size());
+                job.setClaimsFlagged(job.getClaimsFlagged() + flagged);
+                job.setClaimsPerSecond(throughput(job.getClaimsProcessed() - claimsAtRunStart, runStart));
+                job.setUpdatedAt(LocalDateTime.now());
+                jobRepository.save(job);
+            }
+
+            job.setStatus("COMPLETED");
+            job.setFinishedAt(LocalDateTime.now());
+            job.setClaimsPerSecond(throughput(job.getClaimsProcessed() - claimsAtRunStart, runStart));
+            jobRepository.save(job);
+
+            log.info("Fraud re-scan job #{} completed: {} claims, {} flagged, {} claims/sec",
+                    job.getId(), job.getClaimsProcessed(), job.getClaimsFlagged(), job.getClaimsPerSecond());
+            auditLogService.logAction(
+                    "SYSTEM",
+                    "Scheduled Job",
+                    "SYSTEM",
+                    "FRAUD_RESCAN_COMPLETED",
+                    "Fraud re-scan job #" + job.getId() + " completed. Claims: " + job.getClaimsProcessed()
+                            + ", flagged: " + job.getClaimsFlagged() + ", claims/sec: " + job.getClaimsPerSecond()
+            );
+        } catch (Exception e) {
+            log.error("Fraud re-scan job #{} failed at employee ID {}: {}", job.getId(), job.getLastEmployeeId(), e.getMessage());
+            job.setStatus("FAILED");
+            job.setLastError(e.getMessage());
+            job.setUpdatedAt(LocalDateTime.now());
+            jobRepository.save(job);
+        }
+    }
+
+    /**
+     * Replay one employee's claims in submission order, scoring each against the claims before it.
+     *
+     * @return rows of {fraudFlag, fraudReason, fraudScore, claimId}
+     */
+    private List<Object[]> replay(List<Claim> claims, DocumentFingerprintSnapshot fingerprints) {
+        claims.sort(Comparator.comparing(Claim::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Claim::getId));
+
+        EmployeeFraudFeatures features = new EmployeeFraudFeatures(claims.get(0).getEmployee().getId());
+        List<Object[]> rows = new ArrayList<>(claims.size());
+        for (Claim claim : claims) {
+            LocalDateTime submittedAt = claim.getCreatedAt() != null ? claim.getCreatedAt() : LocalDateTime.now();
+            FraudEvaluationResult result = fraudRuleEngine.evaluate(new FraudContext(claim, features, submittedAt, fingerprints));
+            rows.add(new Object[] {
+                    result.isFlagged(),
+                    result.isFlagged() ? result.getReasonText() : null,
+                    result.getScore(),
+                    claim.getId()
+            });
+            features.add(claim);
+        }
+        return rows;
+    }
+
+    private static double throughput(long claims, long startNanos) {
+        double seconds = Duration.ofNanos(System.nanoTime() - startNanos).toMillis() / 1000.0;
+        return seconds > 0 ? Math.round(claims / seconds * 10) / 10.0 : claims;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // An interrupted job stays RUNNING in the table and resumes from its checkpoint
+        jobRunner.shutdownNow();
+        scoringPool.shutdownNow();
+    }
+}
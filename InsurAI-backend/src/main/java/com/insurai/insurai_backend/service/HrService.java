@@ -21,6 +21,7 @@ public class HrService {
     private final HrRepository hrRepository;
     private final EmployeeRepository employeeRepository; // added for fetching employee name
     private final PasswordEncoder passwordEncoder;
+    private final HrWorkloadRegistry hrWorkloadRegistry;
 
     // -------------------- Register HR --------------------
     public Hr registerHR(RegisterRequest request) {
@@ -31,7 +32,9 @@ public class HrService {
         hr.setHrId(request.getHrId());
         hr.setPassword(passwordEncoder.encode(request.getPassword()));
 
-        return hrRepository.save(hr);
+        Hr savedHr = hrRepository.save(hr);
+        hrWorkloadRegistry.hrAdded(savedHr.getId());
+        return savedHr;
     }
 
     // -------------------- Find HR by email --------------------
@@ -48,6 +51,11 @@ public class HrService {
         return passwordEncoder.matches(rawPassword, hr.getPassword());
     }
 
+    // -------------------- Find HR by ID --------------------
+    public Optional<Hr> getHrById(Long id) {
+        return hrRepository.findById(id);
+    }
+
     // -------------------- Get all active HRs --------------------
     public List<Hr> getAllActiveHrs() {
         // Assuming "active" HRs means those present in the database
@@ -0,0 +1,141 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.insurai.insurai_backend.repository.ClaimRepository;
+import com.insurai.insurai_backend.repository.EnrollmentRepository;
+import com.insurai.insurai_backend.repository.HrRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory pending claim and enrollment counts per HR for load-balanced assignment.
+ * Seeded from one GROUP BY query per workload, kept current on assign/approve/reject
+ * and periodically reconciled against the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class HrWorkloadRegistry {
+
+    private static final String PENDING = "Pending";
+
+    private final HrRepository hrRepository;
+    private final ClaimRepository claimRepository;
+    private final EnrollmentRepository enrollmentRepository;
+
+    private final HrWorkloadTracker pendingClaims = new HrWorkloadTracker();
+    private final HrWorkloadTracker pendingEnrollments = new HrWorkloadTracker();
+    private volatile boolean seeded;
+
+    /**
+     * Pick the HR with the fewest pending claims and count the new claim against them.
+     *
+     * @return the HR ID, or null if there are no HRs
+     */
+    public Long assignClaim() {
+        ensureSeeded();
+        return pendingClaims.assignLeastLoaded();
+    }
+
+    /**
+     * A pending claim left the HR's queue (approved, rejected, or its assignment was rolled back).
+     */
+    public void claimResolved(Long hrId) {
+        pendingClaims.decrement(hrId);
+    }
+
+    /**
+     * Pick the HR with the fewest pending enrollments and count the new enrollment against them.
+     * If called inside a transaction that rolls back, the count is released again.
+     *
+     * @return the HR ID, or null if there are no HRs
+     */
+    public Long assignEnrollment() {
+        ensureSeeded();
+        Long hrId = pendingEnrollments.assignLeastLoaded();
+        if (hrId != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) pendingEnrollments.decrement(hrId);
+                }
+            });
+        }
+        return hrId;
+    }
+
+    /**
+     * A pending enrollment left the HR's queue. Inside a transaction, applied after commit.
+     */
+    public void enrollmentResolved(Long hrId) {
+        if (hrId == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingEnrollments.decrement(hrId);
+                }
+            });
+        } else {
+            pendingEnrollments.decrement(hrId);
+        }
+    }
+
+    public void hrAdded(Long hrId) {
+        pendingClaims.addHr(hrId);
+        pendingEnrollments.addHr(hrId);
+    }
+
+    public void hrRemoved(Long hrId) {
+        pendingClaims.removeHr(hrId);
+        pendingEnrollments.removeHr(hrId);
+    }
+
+    public Map<Long, Long> getPendingClaimCounts() {
+        ensureSeeded();
+        return pendingClaims.snapshot();
+    }
+
+    public Map<Long, Long> getPendingEnrollmentCounts() {
+        ensureSeeded();
+        return pendingEnrollments.snapshot();
+    }
+
+    /**
+     * Rebuild the counters from the database to correct any drift.
+     */
+    @Scheduled(fixedDelayString = "${hr.workload.reconcile-interval-ms:300000}",
+               initialDelayString = "${hr.workload.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        try {
+            List<Long> hrIds = hrRepository.findAllIds();
+            pendingClaims.reset(hrIds, toCounts(claimRepository.countByStatusGroupByAssignedHr(PENDING)));
+            pendingEnrollments.reset(hrIds, toCounts(enrollmentRepository.countByStatusGroupByAssignedHr(PENDING)));
+            seeded = true;
+            log.debug("Reconciled pending claim and enrollment counts for {} HRs", hrIds.size());
+        } catch (Exception e) {
+            log.warn("HR workload reconciliation failed: {}", e.getMessage());
+        }
+    }
+
+    private void ensureSeeded() {
+        if (!seeded) {
+            synchronized (this) {
+                if (!seeded) reconcile();
+            }
+        }
+    }
+
+    private static Map<Long, Long> toCounts(List<Object[]> rows) {
+        return rows.stream().collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+}
@@ -0,0 +1,74 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Pending-item counters for every HR, ordered so the least-loaded HR is found in O(log n).
+ * Ties go to the lowest HR ID, as the previous per-HR scan did.
+ */
+public class HrWorkloadTracker {
+
+    private record Load(long hrId, long pending) {}
+
+    private final Map<Long, Load> loadsByHr = new HashMap<>();
+    private final TreeSet<Load> byPending = new TreeSet<>(
+            Comparator.comparingLong(Load::pending).thenComparingLong(Load::hrId));
+
+    /**
+     * Replace all counters, e.g. from a GROUP BY count. HRs missing from the counts start at zero.
+     */
+    public synchronized void reset(Collection<Long> hrIds, Map<Long, Long> pendingByHr) {
+        loadsByHr.clear();
+        byPending.clear();
+        for (Long hrId : hrIds) {
+            put(hrId, pendingByHr.getOrDefault(hrId, 0L));
+        }
+    }
+
+    /**
+     * Pick the least-loaded HR and count the new item against them.
+     *
+     * @return the HR ID, or null if there are no HRs
+     */
+    public synchronized Long assignLeastLoaded() {
+        if (byPending.isEmpty()) return null;
+        Load least = byPending.first();
+        put(least.hrId(), least.pending() + 1);
+        return least.hrId();
+    }
+
+    public synchronized void decrement(Long hrId) {
+        adjust(hrId, -1);
+    }
+
+    public synchronized void addHr(Long hrId) {
+        if (hrId != null && !loadsByHr.containsKey(hrId)) put(hrId, 0);
+    }
+
+    public synchronized void removeHr(Long hrId) {
+        Load load = hrId != null ? loadsByHr.remove(hrId) : null;
+        if (load != null) byPending.remove(load);
+    }
+
+    public synchronized Map<Long, Long> snapshot() {
+        Map<Long, Long> pending = new LinkedHashMap<>();
+        byPending.forEach(load -> pending.put(load.hrId(), load.pending()));
+        return pending;
+    }
+
+    private void adjust(Long hrId, long delta) {
+        Load load = hrId != null ? loadsByHr.get(hrId) : null;
+        if (load != null) put(hrId, Math.max(0, load.pending() + delta));
+    }
+
+    private void put(long hrId, long pending) {
+        Load previous = loadsByHr.put(hrId, new Load(hrId, pending));
+        if (previous != null) byPending.remove(previous);
+        byPending.add(loadsByHr.get(hrId));
+    }
+}
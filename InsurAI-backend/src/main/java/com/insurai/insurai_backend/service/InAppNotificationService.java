@@ -1,28 +1,75 @@
 package com.insurai.insurai_backend.service;
 
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.insurai.insurai_backend.model.BroadcastNotification;
 import com.insurai.insurai_backend.model.Claim;
 import com.insurai.insurai_backend.model.Hr;
 import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.repository.NotificationReadReceiptRepository;
 import com.insurai.insurai_backend.repository.NotificationRepository;
 
 @Service
 public class InAppNotificationService {
 
+    private static final String INSERT_SQL =
+            "INSERT INTO notifications (title, message, target_role, target_id, notification_type, read_status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String RECEIPT_SQL =
+            "INSERT IGNORE INTO notification_read_receipts (notification_id, reader_id, read_at) VALUES (?, ?, ?)";
+    private static final String RECEIPT_ALL_SQL =
+            "INSERT IGNORE INTO notification_read_receipts (notification_id, reader_id, read_at) " +
+            "SELECT id, ?, ? FROM notifications WHERE target_role = ? AND target_id = 0 AND read_status = false " +
+            "AND (? IS NULL OR notification_type = ?)";
+
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NotificationHub notificationHub;
+
+    @Autowired
+    private NotificationCounterService notificationCounterService;
+
+    @Autowired
+    private NotificationReadReceiptRepository readReceiptRepository;
+
+    // Identical role broadcasts within this window are stored once
+    @Value("${notifications.broadcast.coalesce-window-ms:86400000}")
+    private long broadcastCoalesceWindowMs;
+
     // ------------------ Create Notifications ------------------
 
+    @Transactional
     public Notification createNotification(String title, String message, Long targetId, String targetRole, String notificationType) {
         if (targetId == null || targetRole == null) return null; // safety check
 
+        Notification saved = notificationRepository.save(buildNotification(title, message, targetId, targetRole, notificationType));
+        notificationCounterService.unreadAdded(saved);
+        notificationHub.publish(saved);
+        return saved;
+    }
+
+    /**
+     * Unsaved notification, for callers that collect many and store them with createNotificationsInBatch
+     */
+    public Notification buildNotification(String title, String message, Long targetId, String targetRole, String notificationType) {
         Notification notification = new Notification();
         notification.setTitle(title);
         notification.setMessage(message);
@@ -32,8 +79,32 @@ public class InAppNotificationService {
         notification.setReadStatus(false);
         notification.setCreatedAt(LocalDateTime.now());
         notification.setUpdatedAt(LocalDateTime.now());
+        return notification;
+    }
+
+    /**
+     * Insert notifications with JDBC batches (IDENTITY ids keep Hibernate from batching these inserts).
+     * Runs in the caller's transaction; generated ids are not written back.
+     */
+    @Transactional
+    public int createNotificationsInBatch(List<Notification> notifications) {
+        if (notifications.isEmpty()) return 0;
 
-        return notificationRepository.save(notification);
+        // The batch gets IDs above this; push subscribers are caught up from here after commit
+        long maxIdBefore = notificationRepository.findMaxId();
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, INSERT_BATCH_SIZE, (ps, notification) -> {
+            ps.setString(1, notification.getTitle());
+            ps.setString(2, notification.getMessage());
+            ps.setString(3, notification.getTargetRole());
+            ps.setLong(4, notification.getTargetId());
+            ps.setString(5, notification.getNotificationType());
+            ps.setBoolean(6, notification.isReadStatus());
+            ps.setTimestamp(7, Timestamp.valueOf(notification.getCreatedAt()));
+            ps.setTimestamp(8, Timestamp.valueOf(notification.getUpdatedAt()));
+        });
+        notificationCounterService.unreadAdded(notifications);
+        notificationHub.publishBatch(notifications, maxIdBefore);
+        return notifications.size();
     }
 
     public Notification createClaimApprovedNotification(Claim claim) {
@@ -94,6 +165,17 @@ public class InAppNotificationService {
         return notificationRepository.findByTargetRoleOrderByCreatedAtDesc(role);
     }
 
+    public List<Notification> getNotificationsByRole(String role, int limit) {
+        return notificationRepository.findByTargetRoleOrderByCreatedAtDesc(role, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Newest role-wide notifications with the given user's read state
+     */
+    public List<BroadcastNotification> getBroadcastsForUser(String role, Long userId, int limit) {
+        return notificationRepository.findBroadcastsForReader(role, userId, PageRequest.of(0, limit));
+    }
+
     public List<Notification> getNotificationsByRoleAndType(String role, String type) {
         return notificationRepository.findByTargetRoleAndNotificationTypeOrderByCreatedAtDesc(role, type);
     }
@@ -102,49 +184,121 @@ public class InAppNotificationService {
 
     /**
      * Mark notification as read
-     * Ensures numeric ID compatibility and logs if notification not found
+     * Ensures numeric ID compatibility and logs if notification not found.
+     * The read is a conditional UPDATE, so of two concurrent calls only the one that
+     * flipped the row uncounts it.
      */
+    @Transactional
     public Notification markAsRead(Long notificationId) {
         if (notificationId == null) return null;
 
         Optional<Notification> optional = notificationRepository.findById(notificationId);
         if (optional.isPresent()) {
             Notification notification = optional.get();
-            notification.setReadStatus(true);
-            notification.setUpdatedAt(LocalDateTime.now());
-            return notificationRepository.save(notification);
+            if (notification.isReadStatus()) return notification;
+            if (notificationRepository.markReadIfUnread(notificationId, LocalDateTime.now()) == 1) {
+                notificationCounterService.unreadRemoved(notification);
+            }
+            return notificationRepository.findById(notificationId).orElse(null);
         } else {
             System.out.println("Notification ID not found: " + notificationId);
             return null;
         }
     }
 
+    /**
+     * Mark a role-wide notification as read for one user only, with a read receipt
+     *
+     * @return the user's view of the notification, or null if it is not a broadcast
+     */
+    @Transactional
+    public BroadcastNotification markBroadcastAsRead(Long notificationId, Long readerId) {
+        if (notificationId == null || readerId == null) return null;
+
+        Notification notification = notificationRepository.findById(notificationId).orElse(null);
+        if (notification == null || notification.getTargetId() == null || notification.getTargetId() != 0L) return null;
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(RECEIPT_SQL, notificationId, readerId, Timestamp.valueOf(now));
+        return new BroadcastNotification(notification.getId(), notification.getTitle(), notification.getMessage(),
+                notification.getTargetRole(), notification.getNotificationType(), notification.getCreatedAt(),
+                notification.isReadStatus(), now);
+    }
+
+    /**
+     * Mark all unread notifications of a user and role as read (optionally only one type)
+     * with a single UPDATE, zero the matching unread counters and add the user's read
+     * receipts for the role's broadcasts.
+     *
+     * @return number of the user's own notifications marked read
+     */
+    @Transactional
+    public int markAllAsRead(Long userId, String role, String notificationType) {
+        if (userId == null || role == null) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = notificationRepository.markAllRead(userId, role, notificationType, now);
+        notificationCounterService.unreadCleared(role, userId, notificationType);
+        jdbcTemplate.update(RECEIPT_ALL_SQL, userId, Timestamp.valueOf(now), role, notificationType, notificationType);
+        return updated;
+    }
+
+    /**
+     * Unread counts of a user, by type, without loading the notifications
+     */
+    public Map<String, Object> getUnreadCount(Long userId, String role) {
+        Map<String, Object> counts = notificationCounterService.getUnreadCounts(userId, role);
+        if (role != null) {
+            // Role broadcasts the user has no receipt for
+            long broadcasts = notificationRepository.countUnreadBroadcasts(role, userId);
+            counts.put("broadcasts", broadcasts);
+            counts.put("total", (Long) counts.get("total") + broadcasts);
+        }
+        return counts;
+    }
+
     /**
      * Delete a notification
+     * Guarded deletes decide from the row's state at delete time whether it was still counted as unread.
      */
+    @Transactional
     public void deleteNotification(Long notificationId) {
-        if (notificationId != null && notificationRepository.existsById(notificationId)) {
-            notificationRepository.deleteById(notificationId);
-        }
+        if (notificationId == null) return;
+
+        notificationRepository.findById(notificationId).ifPresent(notification -> {
+            if (notification.getTargetId() != null && notification.getTargetId() == 0L) {
+                readReceiptRepository.deleteByNotificationIds(List.of(notification.getId()));
+            }
+            // Uncount only if the row was still unread when this call deleted it;
+            // otherwise it was read (or deleted) concurrently and is no longer counted
+            if (notificationRepository.deleteByIdAndReadStatus(notificationId, false) == 1) {
+                notificationCounterService.unreadRemoved(notification);
+            } else {
+                notificationRepository.deleteByIds(List.of(notificationId));
+            }
+        });
     }
 
     /**
      * Create notification for all users of a specific role
-     * Note: This creates a single notification entry with targetId = 0 (for role-based notifications)
+     * Note: This creates a single notification entry with targetId = 0 (for role-based notifications);
+     * users mark it read with their own read receipts. An identical broadcast created within the
+     * coalescing window is returned instead of storing a repeat.
      */
+    @Transactional
     public Notification createNotificationForRole(String title, String message, String targetRole, String notificationType) {
         if (targetRole == null) return null;
 
-        Notification notification = new Notification();
-        notification.setTitle(title);
-        notification.setMessage(message);
-        notification.setTargetId(0L); // 0 indicates it's for all users of this role
-        notification.setTargetRole(targetRole);
-        notification.setNotificationType(notificationType != null ? notificationType : "GENERAL");
-        notification.setReadStatus(false);
-        notification.setCreatedAt(LocalDateTime.now());
-        notification.setUpdatedAt(LocalDateTime.now());
+        Optional<Notification> recent = notificationRepository
+                .findFirstByTargetRoleAndTargetIdAndTitleAndMessageAndCreatedAtGreaterThanEqualOrderByIdDesc(
+                        targetRole, 0L, title, message,
+                        LocalDateTime.now().minus(Duration.ofMillis(broadcastCoalesceWindowMs)));
+        if (recent.isPresent()) return recent.get();
 
-        return notificationRepository.save(notification);
+        // 0 indicates it's for all users of this role
+        Notification saved = notificationRepository.save(buildNotification(title, message, 0L, targetRole, notificationType));
+        notificationCounterService.unreadAdded(saved);
+        notificationHub.publish(saved);
+        return saved;
     }
 }
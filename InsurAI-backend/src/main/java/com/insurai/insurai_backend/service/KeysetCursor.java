@@ -0,0 +1,36 @@
+package com.insurai.insurai_backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered newest first by (timestamp, id), carried between pages as an
+ * opaque URL-safe token.
+ */
+public record KeysetCursor(LocalDateTime at, Long id) {
+
+    /**
+     * Cursor after the given row, or null if the row has no timestamp to page on.
+     */
+    public static String encode(LocalDateTime at, Long id) {
+        if (at == null || id == null) return null;
+        String position = at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parse a cursor; null or blank means the first page and gives an empty position.
+     */
+    public static KeysetCursor decode(String cursor) throws Exception {
+        if (cursor == null || cursor.isBlank()) return new KeysetCursor(null, null);
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new Exception("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.insurai.insurai_backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Local filesystem storage for development and tests (storage.backend=local).
+ * Files are written under the uploads directory, which is already served as static content.
+ */
+@Service
+@ConditionalOnProperty(name = "storage.backend", havingValue = "local")
+public class LocalStorageService implements StorageService {
+
+    private final Path rootDir;
+
+    public LocalStorageService(@Value("${storage.local.dir:./uploads/}") String rootDir) {
+        this.rootDir = Paths.get(rootDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public String uploadFile(MultipartFile file, String path) {
+        if (file == null || file.isEmpty()) {
+            throw new RuntimeException("File is empty or null");
+        }
+
+        Path target = rootDir.resolve(path).normalize();
+        if (!target.startsWith(rootDir)) {
+            throw new RuntimeException("Invalid storage path: " + path);
+        }
+
+        try (InputStream in = file.getInputStream()) {
+            Files.createDirectories(target.getParent());
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            return "/uploads/" + path;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to upload file: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.model.NotificationUnreadCounter;
+import com.insurai.insurai_backend.repository.NotificationUnreadCounterRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Unread notification counts per (role, recipient, type).
+ * Counters are adjusted in the same transaction as the notification write that changes them,
+ * so a count read never needs to touch the notifications table.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationCounterService {
+
+    // Upsert keeps a single round trip per counter and never lets a counter go negative
+    private static final String ADJUST_SQL =
+            "INSERT INTO notification_unread_counters (target_role, target_id, notification_type, unread_count) " +
+            "VALUES (?, ?, ?, GREATEST(?, 0)) " +
+            "ON DUPLICATE KEY UPDATE unread_count = GREATEST(unread_count + ?, 0)";
+    private static final String DECREMENT_SQL =
+            "UPDATE notification_unread_counters SET unread_count = GREATEST(unread_count - ?, 0) " +
+            "WHERE target_role = ? AND target_id = ? AND notification_type = ?";
+    private static final String REBUILD_SQL =
+            "INSERT INTO notification_unread_counters (target_role, target_id, notification_type, unread_count) " +
+            "SELECT target_role, target_id, notification_type, COUNT(*) FROM notifications " +
+            "WHERE read_status = false AND target_id IS NOT NULL GROUP BY target_role, target_id, notification_type";
+    private static final int BATCH_SIZE = 500;
+
+    private record CounterKey(String role, Long targetId, String type) {}
+
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Count a new unread notification. Call inside the transaction that saves it.
+     */
+    public void unreadAdded(Notification notification) {
+        unreadAdded(List.of(notification));
+    }
+
+    /**
+     * Count a batch of new notifications with one upsert per distinct recipient and type.
+     */
+    public void unreadAdded(Collection<Notification> notifications) {
+        adjust(notifications, 1L);
+    }
+
+    /**
+     * A batch of notifications was deleted; the unread ones are uncounted.
+     */
+    public void unreadRemoved(Collection<Notification> notifications) {
+        adjust(notifications, -1L);
+    }
+
+    /**
+     * An unread notification was read or deleted.
+     */
+    public void unreadRemoved(Notification notification) {
+        if (notification.getTargetId() == null) return;
+        CounterKey key = keyOf(notification);
+        jdbcTemplate.update(DECREMENT_SQL, 1L, key.role(), key.targetId(), key.type());
+    }
+
+    /**
+     * Every unread notification of a recipient (optionally of one type) was marked read.
+     */
+    public void unreadCleared(String role, Long targetId, String type) {
+        counterRepository.reset(role, targetId, type);
+    }
+
+    /**
+     * Unread counts of a user by type, for one role or summed over all roles.
+     */
+    public Map<String, Object> getUnreadCounts(Long targetId, String role) {
+        List<NotificationUnreadCounter> counters = role != null
+                ? counterRepository.findByTargetRoleAndTargetId(role, targetId)
+                : counterRepository.findByTargetId(targetId);
+
+        Map<String, Long> byType = new TreeMap<>();
+        long total = 0;
+        for (NotificationUnreadCounter counter : counters) {
+            if (counter.getUnreadCount() == 0) continue;
+            byType.merge(counter.getNotificationType(), counter.getUnreadCount(), Long::sum);
+            total += counter.getUnreadCount();
+        }
+
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("userId", targetId);
+        counts.put("role", role);
+        counts.put("total", total);
+        counts.put("byType", byType);
+        return counts;
+    }
+
+    /**
+     * Recompute every counter from the notifications table. Meant for the first start after
+     * the counters were introduced, or to repair them after direct database edits.
+     *
+     * @return number of counters written
+     */
+    @Transactional
+    public int rebuild() {
+        jdbcTemplate.update("DELETE FROM notification_unread_counters");
+        int rows = jdbcTemplate.update(REBUILD_SQL);
+        log.info("Rebuilt {} notification unread counters", rows);
+        return rows;
+    }
+
+    // Seed the counters once when they are still empty (first start with this table)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        try {
+            if (counterRepository.count() == 0) rebuild();
+        } catch (Exception e) {
+            log.warn("Seeding notification unread counters failed: {}", e.getMessage());
+        }
+    }
+
+    private void adjust(Collection<Notification> notifications, long step) {
+        Map<CounterKey, Long> deltas = new LinkedHashMap<>();
+        for (Notification notification : notifications) {
+            if (notification.isReadStatus() || notification.getTargetId() == null) continue;
+            deltas.merge(keyOf(notification), step, Long::sum);
+        }
+        if (deltas.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(ADJUST_SQL, new ArrayList<>(deltas.entrySet()), BATCH_SIZE, (ps, entry) -> {
+            ps.setString(1, entry.getKey().role());
+            ps.setLong(2, entry.getKey().targetId());
+            ps.setString(3, entry.getKey().type());
+            ps.setLong(4, entry.getValue());
+            ps.setLong(5, entry.getValue());
+        });
+    }
+
+    private static CounterKey keyOf(Notification notification) {
+        String type = notification.getNotificationType() != null ? notification.getNotificationType() : "GENERAL";
+        return new CounterKey(notification.getTargetRole(), notification.getTargetId(), type);
+    }
+}
@@ -0,0 +1,361 @@
+package com.insurai.insurai_backend.service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.repository.NotificationRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes new notifications to connected clients over Server-Sent Events.
+ * Subscribers are keyed by (role, user ID); role-wide notifications (target ID 0) go to every
+ * subscriber of the role. Notifications are routed once their transaction commits, on a hub
+ * thread, so request threads never wait on a slow client. Each subscriber has a bounded queue
+ * of sends drained in order on a small sender pool, so a client whose socket blocks only holds
+ * up itself; when its queue overflows it is disconnected. A reconnecting client is caught up
+ * from the database starting after its Last-Event-ID.
+ * IDs are not committed in order (JDBC batches commit after later single inserts), so instead of
+ * a watermark each subscriber remembers the IDs it was recently sent and replays skip those.
+ */
+@Service
+@Slf4j
+public class NotificationHub {
+
+    public static final String EVENT_NAME = "notification";
+
+    private record SubscriberKey(String role, Long targetId) {}
+
+    // IDs remembered per subscriber to suppress duplicates between live sends and replays
+    private static final int RECENT_IDS = 1024;
+
+    private static final class Subscription {
+        final SubscriberKey key;
+        final SseEmitter emitter;
+        final TreeSet<Long> recentIds = new TreeSet<>(); // guarded by this
+        // Sends waiting for this subscriber, run one at a time on the sender pool
+        final Queue<Runnable> outbox = new ConcurrentLinkedQueue<>();
+        final AtomicInteger queued = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+        volatile boolean dropped;
+
+        Subscription(SubscriberKey key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+    }
+
+    private final NotificationRepository notificationRepository;
+    private final long timeoutMs;
+    private final int replayLimit;
+    private final int maxQueuedSends;
+    private final ExecutorService dispatcher;
+    private final ExecutorService senders;
+
+    private final Map<SubscriberKey, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+
+    // -------------------- Metrics --------------------
+    private final AtomicLong connections = new AtomicLong();
+    private final AtomicLong peakConnections = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong closed = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong failedSends = new AtomicLong();
+    private final AtomicLong slowDropped = new AtomicLong();
+
+    public NotificationHub(NotificationRepository notificationRepository,
+                           @Value("${notifications.sse.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${notifications.sse.replay-limit:200}") int replayLimit,
+                           @Value("${notifications.sse.sender-threads:4}") int senderThreads,
+                           @Value("${notifications.sse.max-queued-sends:500}") int maxQueuedSends) {
+        this.notificationRepository = notificationRepository;
+        this.timeoutMs = timeoutMs;
+        this.replayLimit = replayLimit;
+        this.maxQueuedSends = maxQueuedSends;
+        this.dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-hub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderCount = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(Math.max(1, senderThreads), runnable -> {
+            Thread thread = new Thread(runnable, "notification-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // -------------------- Subscribe --------------------
+
+    /**
+     * Open a stream for a user. With a Last-Event-ID the notifications created since then are replayed first.
+     */
+    public SseEmitter subscribe(String role, Long targetId, Long lastEventId) {
+        SubscriberKey key = new SubscriberKey(role.toUpperCase(), targetId);
+        SseEmitter emitter = createEmitter();
+        Subscription subscription = new Subscription(key, emitter);
+
+        emitter.onCompletion(() -> remove(subscription));
+        emitter.onTimeout(() -> remove(subscription));
+        emitter.onError(error -> remove(subscription));
+
+        // Registered on the hub thread: notifications published before this task are already
+        // committed and covered by the replay, later ones are delivered live
+        dispatcher.execute(() -> {
+            subscribers.compute(key, (k, subscriptions) -> {
+                Set<Subscription> set = subscriptions != null ? subscriptions : new CopyOnWriteArraySet<>();
+                set.add(subscription);
+                return set;
+            });
+            opened.incrementAndGet();
+            peakConnections.accumulateAndGet(connections.incrementAndGet(), Math::max);
+
+            if (lastEventId != null) enqueue(subscription, () -> catchUp(subscription, lastEventId));
+        });
+        return emitter;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMs);
+    }
+
+    // -------------------- Publish --------------------
+
+    /**
+     * Push a saved notification to its subscribers once the current transaction commits.
+     */
+    public void publish(Notification notification) {
+        if (notification == null || notification.getId() == null) return;
+        afterCommit(() -> dispatcher.execute(() -> deliver(notification)));
+    }
+
+    /**
+     * Catch up the subscribers of notifications that were stored without IDs (JDBC batches)
+     * by reading them back from the database, once the current transaction commits.
+     *
+     * @param maxIdBefore highest notification ID visible before the batch was inserted; every
+     *                    ID of the batch is above it
+     */
+    public void publishBatch(Collection<Notification> notifications, long maxIdBefore) {
+        Set<SubscriberKey> keys = new HashSet<>();
+        Set<String> wholeRoles = new HashSet<>();
+        for (Notification notification : notifications) {
+            String role = notification.getTargetRole().toUpperCase();
+            if (notification.getTargetId() == null || notification.getTargetId() == 0L) {
+                wholeRoles.add(role);
+            } else {
+                keys.add(new SubscriberKey(role, notification.getTargetId()));
+            }
+        }
+        afterCommit(() -> dispatcher.execute(() -> subscribers.forEach((key, subscriptions) -> {
+            if (keys.contains(key) || wholeRoles.contains(key.role())) {
+                subscriptions.forEach(subscription -> enqueue(subscription, () -> catchUp(subscription, maxIdBefore)));
+            }
+        })));
+    }
+
+    // -------------------- Heartbeat & metrics --------------------
+
+    // Keeps idle connections open through proxies and detects clients that went away
+    @Scheduled(fixedRateString = "${notifications.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        dispatcher.execute(() -> subscribers.values().forEach(subscriptions -> subscriptions.forEach(subscription ->
+                enqueue(subscription, () -> {
+                    synchronized (subscription) {
+                        try {
+                            subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+                        } catch (IOException | IllegalStateException e) {
+                            fail(subscription, e);
+                        }
+                    }
+                }))));
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Long> byRole = new LinkedHashMap<>();
+        subscribers.forEach((key, subscriptions) -> byRole.merge(key.role(), (long) subscriptions.size(), Long::sum));
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("connections", connections.get());
+        metrics.put("peakConnections", peakConnections.get());
+        metrics.put("connectionsByRole", byRole);
+        metrics.put("subscribedUsers", subscribers.size());
+        metrics.put("opened", opened.get());
+        metrics.put("closed", closed.get());
+        metrics.put("delivered", delivered.get());
+        metrics.put("replayed", replayed.get());
+        metrics.put("failedSends", failedSends.get());
+        metrics.put("slowDropped", slowDropped.get());
+        return metrics;
+    }
+
+    // -------------------- Routing (hub thread) --------------------
+
+    private void deliver(Notification notification) {
+        String role = notification.getTargetRole().toUpperCase();
+        if (notification.getTargetId() == null || notification.getTargetId() == 0L) {
+            subscribers.forEach((key, subscriptions) -> {
+                if (key.role().equals(role)) subscriptions.forEach(subscription -> enqueueSend(subscription, notification));
+            });
+        } else {
+            Set<Subscription> subscriptions = subscribers.get(new SubscriberKey(role, notification.getTargetId()));
+            if (subscriptions != null) subscriptions.forEach(subscription -> enqueueSend(subscription, notification));
+        }
+    }
+
+    private void enqueueSend(Subscription subscription, Notification notification) {
+        enqueue(subscription, () -> send(subscription, notification, false));
+    }
+
+    // -------------------- Per-subscriber queues (sender pool) --------------------
+
+    // A subscriber that falls this far behind is disconnected; it reconnects and replays from the database
+    private void enqueue(Subscription subscription, Runnable task) {
+        if (subscription.dropped) return;
+        if (subscription.queued.incrementAndGet() > maxQueuedSends) {
+            subscription.queued.decrementAndGet();
+            slowDropped.incrementAndGet();
+            log.debug("Dropping slow SSE subscriber {}: {} sends queued", subscription.key, maxQueuedSends);
+            subscription.dropped = true;
+            remove(subscription);
+            schedule(subscription);
+            return;
+        }
+        subscription.outbox.add(task);
+        schedule(subscription);
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.draining.compareAndSet(false, true)) senders.execute(() -> drain(subscription));
+    }
+
+    // Runs the subscriber's sends in order; a dropped subscriber is closed from here, after any
+    // blocked write returns, so neither the hub thread nor another sender waits on its socket
+    private void drain(Subscription subscription) {
+        try {
+            Runnable task;
+            while ((task = subscription.outbox.poll()) != null) {
+                subscription.queued.decrementAndGet();
+                if (subscription.dropped) {
+                    subscription.outbox.clear();
+                    break;
+                }
+                task.run();
+            }
+            if (subscription.dropped) subscription.emitter.complete();
+        } catch (RuntimeException e) {
+            log.warn("Failed to send notifications to {}: {}", subscription.key, e.getMessage());
+        } finally {
+            subscription.draining.set(false);
+            if (!subscription.outbox.isEmpty() && !subscription.dropped) schedule(subscription);
+        }
+    }
+
+    // Send everything stored for the subscriber after the given ID that it was not sent yet
+    private void catchUp(Subscription subscription, long afterId) {
+        synchronized (subscription) {
+            try {
+                long cursor = afterId;
+                while (true) {
+                    List<Notification> pending = notificationRepository.findForSubscriberAfter(
+                            subscription.key.role(), subscription.key.targetId(), cursor,
+                            PageRequest.of(0, replayLimit));
+                    for (Notification notification : pending) {
+                        if (!send(subscription, notification, true)) return;
+                    }
+                    if (pending.size() < replayLimit) return;
+                    cursor = pending.get(pending.size() - 1).getId();
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to replay notifications to {}: {}", subscription.key, e.getMessage());
+            }
+        }
+    }
+
+    // Returns false only if the subscriber is gone; notifications it was already sent are skipped
+    private boolean send(Subscription subscription, Notification notification, boolean replay) {
+        synchronized (subscription) {
+            long id = notification.getId();
+            if (subscription.recentIds.contains(id)) return true;
+            try {
+                subscription.emitter.send(SseEmitter.event()
+                        .id(String.valueOf(id))
+                        .name(EVENT_NAME)
+                        .data(notification));
+                subscription.recentIds.add(id);
+                if (subscription.recentIds.size() > RECENT_IDS) subscription.recentIds.pollFirst();
+                (replay ? replayed : delivered).incrementAndGet();
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                fail(subscription, e);
+                return false;
+            }
+        }
+    }
+
+    private void fail(Subscription subscription, Exception e) {
+        failedSends.incrementAndGet();
+        subscription.dropped = true;
+        log.debug("Dropping SSE subscriber {}: {}", subscription.key, e.getMessage());
+        subscription.emitter.completeWithError(e);
+        remove(subscription);
+    }
+
+    private void remove(Subscription subscription) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscription.key, (key, subscriptions) -> {
+            removed[0] = subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+        if (removed[0]) {
+            connections.decrementAndGet();
+            closed.incrementAndGet();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(subscriptions -> subscriptions.forEach(subscription -> subscription.emitter.complete()));
+    }
+}
@@ -0,0 +1,293 @@
+package com.insurai.insurai_backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.repository.NotificationReadReceiptRepository;
+import com.insurai.insurai_backend.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Retention for in-app notifications.
+ * Each run archives read notifications and broadcasts older than the retention age, plus every
+ * notification beyond a user's newest max-per-user, into one gzipped NDJSON file. Once the file
+ * is in place the archived rows are deleted by ID in short chunk transactions.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String TABLE_SIZE_SQL =
+            "SELECT TABLE_ROWS, DATA_LENGTH + INDEX_LENGTH FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications'";
+    private static final int SIZE_HISTORY = 30;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadReceiptRepository readReceiptRepository;
+    private final NotificationCounterService notificationCounterService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final int readRetentionDays;
+    private final int maxPerUser;
+    private final int maxRowsPerRun;
+    private final int chunkSize;
+    private final Path archiveDir;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    // -------------------- Metrics --------------------
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong totalArchived = new AtomicLong();
+    private final AtomicLong totalDeleted = new AtomicLong();
+    private volatile Map<String, Object> lastRun = Map.of();
+    private final Deque<Map<String, Object>> sizeHistory = new ArrayDeque<>(); // guarded by itself
+
+    // Rows collected by one run: all are archived and deleted
+    private static final class Batch {
+        final Set<Long> ids = new LinkedHashSet<>();
+        long expired;
+        long overCap;
+    }
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        NotificationReadReceiptRepository readReceiptRepository,
+                                        NotificationCounterService notificationCounterService,
+                                        JdbcTemplate jdbcTemplate,
+                                        TransactionTemplate transactionTemplate,
+                                        ObjectMapper objectMapper,
+                                        @Value("${notifications.retention.read-days:90}") int readRetentionDays,
+                                        @Value("${notifications.retention.max-per-user:500}") int maxPerUser,
+                                        @Value("${notifications.retention.max-rows-per-run:200000}") int maxRowsPerRun,
+                                        @Value("${notifications.retention.chunk-size:1000}") int chunkSize,
+                                        @Value("${notifications.archive.dir:./notification-archive/}") String archiveDir) {
+        this.notificationRepository = notificationRepository;
+        this.readReceiptRepository = readReceiptRepository;
+        this.notificationCounterService = notificationCounterService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.readRetentionDays = readRetentionDays;
+        this.maxPerUser = maxPerUser;
+        this.maxRowsPerRun = maxRowsPerRun;
+        this.chunkSize = chunkSize;
+        this.archiveDir = Paths.get(archiveDir);
+    }
+
+    @Scheduled(cron = "${notifications.retention.cron:0 0 3 * * ?}")
+    public void scheduledRun() {
+        try {
+            runRetention();
+        } catch (Exception e) {
+            log.error("Notification retention failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive and delete expired and over-cap notifications.
+     *
+     * @return summary of the run
+     */
+    public Map<String, Object> runRetention() throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Notification retention is already running");
+        }
+        try {
+            long started = System.currentTimeMillis();
+            LocalDateTime startedAt = LocalDateTime.now();
+            Map<String, Object> sizeBefore = recordTableSize();
+
+            Files.createDirectories(archiveDir);
+            Path target = archiveDir.resolve("notifications-" + startedAt.format(FILE_TIMESTAMP) + ".ndjson.gz");
+            Path temp = archiveDir.resolve(target.getFileName() + ".tmp");
+
+            Batch batch = new Batch();
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temp)), StandardCharsets.UTF_8))) {
+                collectExpired(batch, writer, startedAt.minusDays(readRetentionDays));
+                collectOverCap(batch, writer);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+
+            String file = null;
+            long deleted = 0;
+            if (batch.ids.isEmpty()) {
+                Files.deleteIfExists(temp);
+            } else {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                file = target.toString();
+                deleted = deleteArchived(batch);
+            }
+
+            runs.incrementAndGet();
+            totalArchived.addAndGet(batch.ids.size());
+            totalDeleted.addAndGet(deleted);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("startedAt", startedAt.toString());
+            summary.put("durationMs", System.currentTimeMillis() - started);
+            summary.put("archived", batch.ids.size());
+            summary.put("expired", batch.expired);
+            summary.put("overCap", batch.overCap);
+            summary.put("deleted", deleted);
+            summary.put("limitReached", batch.ids.size() >= maxRowsPerRun);
+            summary.put("file", file);
+            summary.put("tableBefore", sizeBefore);
+            summary.put("tableAfter", recordTableSize());
+            lastRun = summary;
+
+            log.info("Notification retention archived {} rows ({} expired, {} over cap), deleted {}",
+                    batch.ids.size(), batch.expired, batch.overCap, deleted);
+            return summary;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("running", running.get());
+        metrics.put("readRetentionDays", readRetentionDays);
+        metrics.put("maxPerUser", maxPerUser);
+        metrics.put("runs", runs.get());
+        metrics.put("totalArchived", totalArchived.get());
+        metrics.put("totalDeleted", totalDeleted.get());
+        metrics.put("lastRun", lastRun);
+        synchronized (sizeHistory) {
+            metrics.put("tableSizeHistory", new ArrayList<>(sizeHistory));
+        }
+        return metrics;
+    }
+
+    // -------------------- Selection --------------------
+
+    // Read notifications and broadcasts (whose read state lives in receipts) older than the cutoff
+    private void collectExpired(Batch batch, Writer writer, LocalDateTime cutoff) throws IOException {
+        Long maxId = notificationRepository.findMaxIdCreatedBefore(cutoff);
+        if (maxId == null) return;
+
+        long lastId = 0;
+        while (batch.ids.size() < maxRowsPerRun) {
+            int limit = chunkLimit(batch);
+            List<Notification> chunk = notificationRepository.findExpiredChunk(
+                    cutoff, lastId, maxId, PageRequest.of(0, limit));
+            batch.expired += write(batch, writer, chunk);
+            if (chunk.size() < limit) return;
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+    }
+
+    // Everything older than each user's newest maxPerUser notifications
+    private void collectOverCap(Batch batch, Writer writer) throws IOException {
+        if (maxPerUser <= 0) return;
+
+        for (Object[] recipient : notificationRepository.findRecipientsOverCap(maxPerUser)) {
+            String role = (String) recipient[0];
+            Long targetId = (Long) recipient[1];
+            List<Long> boundary = notificationRepository.findRecipientIdsNewestFirst(role, targetId, PageRequest.of(maxPerUser, 1));
+            if (boundary.isEmpty()) continue;
+            Long maxId = boundary.get(0);
+
+            long lastId = 0;
+            while (batch.ids.size() < maxRowsPerRun) {
+                int limit = chunkLimit(batch);
+                List<Notification> chunk = notificationRepository.findRecipientChunk(
+                        role, targetId, lastId, maxId, PageRequest.of(0, limit));
+                batch.overCap += write(batch, writer, chunk);
+                if (chunk.size() < limit) break;
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+            if (batch.ids.size() >= maxRowsPerRun) return;
+        }
+    }
+
+    private int chunkLimit(Batch batch) {
+        return Math.max(1, Math.min(chunkSize, maxRowsPerRun - batch.ids.size()));
+    }
+
+    // Rows already collected by the expiry pass are skipped when the cap pass meets them again
+    private int write(Batch batch, Writer writer, List<Notification> chunk) throws IOException {
+        int written = 0;
+        for (Notification notification : chunk) {
+            if (!batch.ids.add(notification.getId())) continue;
+            writer.write(objectMapper.writeValueAsString(notification));
+            writer.write('\n');
+            written++;
+        }
+        return written;
+    }
+
+    // -------------------- Deletion --------------------
+
+    private long deleteArchived(Batch batch) {
+        List<Long> archived = new ArrayList<>(batch.ids);
+        long deleted = 0;
+        for (int from = 0; from < archived.size(); from += chunkSize) {
+            List<Long> ids = archived.subList(from, Math.min(from + chunkSize, archived.size()));
+            Integer rows = transactionTemplate.execute(status -> {
+                // Rows may have been read since they were collected; the ones still unread now are
+                // locked until the delete commits, so a concurrent read cannot uncount them as well
+                List<Notification> unread = notificationRepository.lockUnreadByIds(ids);
+                readReceiptRepository.deleteByNotificationIds(ids);
+                int removed = notificationRepository.deleteByIds(ids);
+                notificationCounterService.unreadRemoved(unread);
+                return removed;
+            });
+            deleted += rows != null ? rows : 0;
+        }
+        return deleted;
+    }
+
+    // -------------------- Table size --------------------
+
+    private Map<String, Object> recordTableSize() {
+        Map<String, Object> size = new LinkedHashMap<>();
+        size.put("at", LocalDateTime.now().toString());
+        try {
+            jdbcTemplate.query(TABLE_SIZE_SQL, rs -> {
+                size.put("estimatedRows", rs.getLong(1));
+                size.put("bytes", rs.getLong(2));
+            });
+        } catch (RuntimeException e) {
+            log.debug("Could not read notifications table size: {}", e.getMessage());
+        }
+        synchronized (sizeHistory) {
+            sizeHistory.addLast(size);
+            while (sizeHistory.size() > SIZE_HISTORY) sizeHistory.removeFirst();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,193 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.repository.PolicyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process copy of the policy catalog, indexed by ID and by status.
+ * The whole catalog is loaded in one query and served until a policy write path drops it
+ * (and drops it again once the writing transaction completes) or it is older than the TTL.
+ * A catalog larger than max-entries is not cached: that is remembered until the next invalidation
+ * or TTL expiry, and reads fall through to the database in the meantime.
+ * Concurrent misses share one load, which builds unmanaged Policy copies with a constructor
+ * query on the caller's connection, so cached policies never join (or get flushed by) a
+ * request's persistence context.
+ */
+@Service
+@Slf4j
+public class PolicyCatalogCache {
+
+    private record Catalog(List<Policy> all, Map<Long, Policy> byId, Map<String, List<Policy>> byStatus, long loadedAt) {
+        boolean oversized() {
+            return all == null;
+        }
+    }
+
+    private final PolicyRepository policyRepository;
+    private final long ttlMs;
+    private final int maxEntries;
+
+    private volatile Catalog catalog;
+    private long version; // guarded by this
+    private CompletableFuture<Catalog> loading; // guarded by this; the load other misses wait for
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+
+    public PolicyCatalogCache(PolicyRepository policyRepository,
+                              @Value("${policy.cache.ttl-ms:600000}") long ttlMs,
+                              @Value("${policy.cache.max-entries:5000}") int maxEntries) {
+        this.policyRepository = policyRepository;
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+    }
+
+    // -------------------- Reads --------------------
+
+    public List<Policy> getAll() {
+        Catalog current = current();
+        return current != null ? current.all() : policyRepository.findAll();
+    }
+
+    public Optional<Policy> getById(Long id) {
+        Catalog current = current();
+        return current != null ? Optional.ofNullable(current.byId().get(id)) : policyRepository.findById(id);
+    }
+
+    public List<Policy> getByStatus(String status) {
+        Catalog current = current();
+        return current != null ? current.byStatus().getOrDefault(status, List.of()) : policyRepository.findByPolicyStatus(status);
+    }
+
+    // -------------------- Invalidation --------------------
+
+    /**
+     * Drop the catalog after a policy was created, updated, deleted, renewed or expired.
+     */
+    public void policiesChanged() {
+        invalidate();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A read inside the transaction window may have reloaded pre-commit rows
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Catalog current = catalog;
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cached", current != null && !current.oversized());
+        metrics.put("oversized", current != null && current.oversized());
+        metrics.put("size", current != null && !current.oversized() ? current.all().size() : 0);
+        metrics.put("ageMs", current != null ? System.currentTimeMillis() - current.loadedAt() : null);
+        metrics.put("hits", hitCount);
+        metrics.put("misses", missCount);
+        metrics.put("hitRate", hitCount + missCount > 0 ? Math.round(hitCount * 1000.0 / (hitCount + missCount)) / 1000.0 : null);
+        metrics.put("invalidations", invalidations.get());
+        metrics.put("loads", loads.get());
+        return metrics;
+    }
+
+    // -------------------- Loading --------------------
+
+    // The fresh catalog, or null when reads should go to the database
+    private Catalog current() {
+        Catalog current = catalog;
+        if (current != null && System.currentTimeMillis() - current.loadedAt() < ttlMs) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            current = load();
+        }
+        return current.oversized() ? null : current;
+    }
+
+    private Catalog load() {
+        CompletableFuture<Catalog> pending;
+        boolean owner;
+        long loadVersion;
+        synchronized (this) {
+            owner = loading == null;
+            if (owner) loading = new CompletableFuture<>();
+            pending = loading;
+            loadVersion = version;
+        }
+        if (!owner) return await(pending);
+
+        try {
+            Catalog loaded = fetch();
+            synchronized (this) {
+                // A write that arrived while loading makes this copy stale already
+                if (version == loadVersion) {
+                    catalog = loaded;
+                }
+                if (loading == pending) loading = null;
+            }
+            pending.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                if (loading == pending) loading = null;
+            }
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Catalog fetch() {
+        loads.incrementAndGet();
+        List<Policy> policies = policyRepository.findAllUnmanaged();
+        if (policies.size() > maxEntries) {
+            log.warn("Policy catalog has {} policies, above policy.cache.max-entries={}; not caching", policies.size(), maxEntries);
+            return new Catalog(null, null, null, System.currentTimeMillis());
+        }
+        return new Catalog(
+                Collections.unmodifiableList(policies),
+                policies.stream().collect(Collectors.toUnmodifiableMap(Policy::getId, Function.identity())),
+                policies.stream().collect(Collectors.groupingBy(Policy::getPolicyStatus,
+                        Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList))),
+                System.currentTimeMillis());
+    }
+
+    private static Catalog await(CompletableFuture<Catalog> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private synchronized void invalidate() {
+        version++;
+        catalog = null;
+        loading = null; // later misses must not wait for a load that started before this write
+        invalidations.incrementAndGet();
+    }
+}
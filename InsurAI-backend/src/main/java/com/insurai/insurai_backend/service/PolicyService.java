@@ -1,47 +1,74 @@
 package com.insurai.insurai_backend.service;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.insurai.insurai_backend.model.Policy;
 import com.insurai.insurai_backend.repository.PolicyRepository;
 
+import jakarta.annotation.PreDestroy;
+
 @Service
 public class PolicyService {
 
     private final PolicyRepository policyRepository;
-    private final SupabaseStorageService supabaseStorageService;
+    private final StorageService storageService;
+    private final StatisticsSnapshotService statisticsSnapshotService;
+    private final PolicyCatalogCache policyCatalogCache;
+    // Shared across requests, so it also caps concurrent uploads to storage overall
+    private final ExecutorService uploadExecutor;
 
     @Autowired
     public PolicyService(PolicyRepository policyRepository,
-                         SupabaseStorageService supabaseStorageService) {
+                         StorageService storageService,
+                         StatisticsSnapshotService statisticsSnapshotService,
+                         PolicyCatalogCache policyCatalogCache,
+                         @Value("${storage.upload-concurrency:4}") int uploadConcurrency) {
         this.policyRepository = policyRepository;
-        this.supabaseStorageService = supabaseStorageService;
+        this.storageService = storageService;
+        this.statisticsSnapshotService = statisticsSnapshotService;
+        this.policyCatalogCache = policyCatalogCache;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.uploadExecutor = Executors.newFixedThreadPool(uploadConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "policy-upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     // -------------------- Create a new policy --------------------
     public Policy createPolicy(Policy policy) {
-        return policyRepository.save(policy);
+        Policy saved = policyRepository.save(policy);
+        policyCatalogCache.policiesChanged();
+        statisticsSnapshotService.policiesChanged();
+        return saved;
     }
 
     // -------------------- Get all policies --------------------
     public List<Policy> getAllPolicies() {
-        return policyRepository.findAll();
+        return policyCatalogCache.getAll();
     }
 
     // -------------------- Get policy by ID --------------------
     public Optional<Policy> getPolicyById(Long id) {
-        return policyRepository.findById(id);
+        return policyCatalogCache.getById(id);
     }
 
     // -------------------- Get active policies --------------------
     public List<Policy> getActivePolicies() {
-        return policyRepository.findByPolicyStatus("Active");
+        return policyCatalogCache.getByStatus("Active");
     }
 
 // -------------------- Update a policy --------------------
@@ -57,7 +84,10 @@ public Policy updatePolicy(Long id, Policy updatedPolicy) {
         policy.setRenewalDate(updatedPolicy.getRenewalDate());
         policy.setPolicyStatus(updatedPolicy.getPolicyStatus());
         policy.setPolicyDescription(updatedPolicy.getPolicyDescription());
-        return policyRepository.save(policy);
+        Policy saved = policyRepository.save(policy);
+        policyCatalogCache.policiesChanged();
+        statisticsSnapshotService.policiesChanged();
+        return saved;
     }).orElseThrow(() -> new RuntimeException("Policy not found with id " + id));
 }
 
@@ -65,6 +95,8 @@ public Policy updatePolicy(Long id, Policy updatedPolicy) {
     // -------------------- Delete a policy --------------------
     public void deletePolicy(Long id) {
         policyRepository.deleteById(id);
+        policyCatalogCache.policiesChanged();
+        statisticsSnapshotService.policiesChanged();
     }
 
     // -------------------- Upload Documents --------------------
@@ -76,46 +108,39 @@ public Policy updatePolicy(Long id, Policy updatedPolicy) {
         Policy policy = policyRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Policy not found with id " + id));
 
+        // Upload the documents concurrently (bounded by storage.upload-concurrency)
+        List<CompletableFuture<Void>> uploads = new ArrayList<>();
+        uploads.add(uploadAsync(contract, "contract", id, policy::setContractUrl));
+        uploads.add(uploadAsync(terms, "terms", id, policy::setTermsUrl));
+        uploads.add(uploadAsync(claimForm, "claim_form", id, policy::setClaimFormUrl));
+        uploads.add(uploadAsync(annexure, "annexure", id, policy::setAnnexureUrl));
+
         try {
-            // Contract
-            if (contract != null && !contract.isEmpty()) {
-                String contractUrl = uploadFileToStorage(contract, "contract", id);
-                policy.setContractUrl(contractUrl);
-            }
-
-            // Terms
-            if (terms != null && !terms.isEmpty()) {
-                String termsUrl = uploadFileToStorage(terms, "terms", id);
-                policy.setTermsUrl(termsUrl);
-            }
-
-            // Claim Form
-            if (claimForm != null && !claimForm.isEmpty()) {
-                String claimFormUrl = uploadFileToStorage(claimForm, "claim_form", id);
-                policy.setClaimFormUrl(claimFormUrl);
-            }
-
-            // Annexure
-            if (annexure != null && !annexure.isEmpty()) {
-                String annexureUrl = uploadFileToStorage(annexure, "annexure", id);
-                policy.setAnnexureUrl(annexureUrl);
-            }
-
-            return policyRepository.save(policy);
-
-        } catch (IOException e) {
-            throw new RuntimeException("I/O error while uploading policy documents: " + e.getMessage(), e);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to upload policy documents: " + e.getMessage(), e);
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Failed to upload policy documents: " + cause.getMessage(), cause);
+        }
+
+        Policy saved = policyRepository.save(policy);
+        policyCatalogCache.policiesChanged();
+        return saved;
+    }
+
+    private CompletableFuture<Void> uploadAsync(MultipartFile file, String type, Long policyId, Consumer<String> urlSetter) {
+        if (file == null || file.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
         }
+        return CompletableFuture.supplyAsync(() -> uploadFileToStorage(file, type, policyId), uploadExecutor)
+                .thenAccept(urlSetter);
     }
 
-    // -------------------- Helper: Upload file to Supabase and return URL --------------------
-    private String uploadFileToStorage(MultipartFile file, String type, Long policyId) throws IOException {
+    // -------------------- Helper: Upload file to storage and return URL --------------------
+    private String uploadFileToStorage(MultipartFile file, String type, Long policyId) {
         String originalFileName = file.getOriginalFilename();
         String extension = getExtension(originalFileName);
         String fileName = "policies/" + policyId + "/" + type + "_" + System.currentTimeMillis() + extension;
-        return supabaseStorageService.uploadFile(file, fileName);
+        return storageService.uploadFile(file, fileName);
     }
 
     // -------------------- Helper: Get file extension --------------------
@@ -125,4 +150,9 @@ public Policy updatePolicy(Long id, Policy updatedPolicy) {
         }
         return "";
     }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
 }
@@ -26,6 +26,7 @@ public class ReimbursementService {
     private final AuditLogService auditLogService;
     private final InAppNotificationService inAppNotificationService;
     private final NotificationService notificationService;
+    private final StatisticsSnapshotService statisticsSnapshotService;
 
     /**
      * Initiate reimbursement for an approved claim
@@ -64,6 +65,7 @@ public class ReimbursementService {
         reimbursement.setRemarks(remarks);
 
         Reimbursement savedReimbursement = reimbursementRepository.save(reimbursement);
+        statisticsSnapshotService.reimbursementsChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -121,6 +123,7 @@ public class ReimbursementService {
         reimbursement.setUpdatedAt(LocalDateTime.now());
 
         Reimbursement savedReimbursement = reimbursementRepository.save(reimbursement);
+        statisticsSnapshotService.reimbursementsChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -162,6 +165,7 @@ public class ReimbursementService {
         reimbursement.setUpdatedAt(LocalDateTime.now());
 
         Reimbursement savedReimbursement = reimbursementRepository.save(reimbursement);
+        statisticsSnapshotService.reimbursementsChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -211,6 +215,7 @@ public class ReimbursementService {
         reimbursement.setUpdatedAt(LocalDateTime.now());
 
         Reimbursement savedReimbursement = reimbursementRepository.save(reimbursement);
+        statisticsSnapshotService.reimbursementsChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -265,12 +270,7 @@ public class ReimbursementService {
      * Get reimbursement statistics
      */
     public Map<String, Object> getReimbursementStatistics(LocalDate startDate, LocalDate endDate) {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalReimbursements", reimbursementRepository.count());
-        stats.put("pendingCount", reimbursementRepository.countByStatus("Pending"));
-        stats.put("processingCount", reimbursementRepository.countByStatus("Processing"));
-        stats.put("completedCount", reimbursementRepository.countByStatus("Completed"));
-        stats.put("failedCount", reimbursementRepository.countByStatus("Failed"));
+        Map<String, Object> stats = new HashMap<>(statisticsSnapshotService.getReimbursementStatistics());
 
         if (startDate != null && endDate != null) {
             Double totalDisbursed = reimbursementRepository.sumTotalAmountByStatusAndDateRange(
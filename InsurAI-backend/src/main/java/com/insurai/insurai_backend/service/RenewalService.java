@@ -2,23 +2,33 @@ package com.insurai.insurai_backend.service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.insurai.insurai_backend.model.EmailOutbox;
 import com.insurai.insurai_backend.model.Enrollment;
+import com.insurai.insurai_backend.model.JobCheckpoint;
+import com.insurai.insurai_backend.model.Notification;
 import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.model.RenewalAlertTarget;
 import com.insurai.insurai_backend.model.RenewalConfig;
 import com.insurai.insurai_backend.model.RenewalHistory;
 import com.insurai.insurai_backend.repository.EnrollmentRepository;
 import com.insurai.insurai_backend.repository.PolicyRepository;
 import com.insurai.insurai_backend.repository.RenewalConfigRepository;
 import com.insurai.insurai_backend.repository.RenewalHistoryRepository;
+import com.insurai.insurai_backend.service.job.ChunkedJobRunner;
+import com.insurai.insurai_backend.service.job.PolicyExpiryJob;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +38,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class RenewalService {
 
+    public static final String RENEWAL_ALERT_TITLE = "Policy Renewal Alert";
+    private static final String EXPIRING_DIGEST_TITLE = "Policy Expiring Soon";
+    private static final int DIGEST_MAX_LENGTH = 255;
+
     private final PolicyRepository policyRepository;
     private final RenewalConfigRepository renewalConfigRepository;
     private final RenewalHistoryRepository renewalHistoryRepository;
@@ -35,6 +49,21 @@ public class RenewalService {
     private final AuditLogService auditLogService;
     private final InAppNotificationService inAppNotificationService;
     private final NotificationService notificationService;
+    private final EmailOutboxService emailOutboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final ChunkedJobRunner chunkedJobRunner;
+    private final PolicyExpiryJob policyExpiryJob;
+    private final StatisticsSnapshotService statisticsSnapshotService;
+    private final PolicyCatalogCache policyCatalogCache;
+
+    // Renewal alerts are written and committed this many recipients at a time
+    @Value("${renewal.alerts.chunk-size:1000}")
+    private int alertChunkSize;
+
+    @Value("${renewal.expiry.chunk-size:500}")
+    private int expiryChunkSize;
+
+    private record AlertWindow(int days, String message) {}
 
     // -------------------- Configuration Methods --------------------
 
@@ -84,7 +113,6 @@ public class RenewalService {
      * Daily scheduled job for renewal alerts (runs at 2:00 AM)
      */
     @Scheduled(cron = "0 0 2 * * ?")
-    @Transactional
     public void dailyRenewalCheck() {
         log.info("Starting daily renewal check job...");
 
@@ -95,26 +123,17 @@ public class RenewalService {
             return;
         }
 
-        int totalAlertsSent = 0;
-        LocalDate today = LocalDate.now();
-
-        // First alert (e.g., 30 days before)
-        totalAlertsSent += sendRenewalAlerts(
-                config.getFirstAlertDays(),
-                "First reminder: Your policy will expire in " + config.getFirstAlertDays() + " days"
-        );
-
-        // Second alert (e.g., 15 days before)
-        totalAlertsSent += sendRenewalAlerts(
-                config.getSecondAlertDays(),
-                "Second reminder: Your policy will expire in " + config.getSecondAlertDays() + " days"
-        );
-
-        // Final alert (e.g., 7 days before)
-        totalAlertsSent += sendRenewalAlerts(
-                config.getFinalAlertDays(),
-                "URGENT: Your policy will expire in " + config.getFinalAlertDays() + " days!"
-        );
+        int totalAlertsSent = sendRenewalAlerts(List.of(
+                // First alert (e.g., 30 days before)
+                new AlertWindow(config.getFirstAlertDays(),
+                        "First reminder: Your policy will expire in " + config.getFirstAlertDays() + " days"),
+                // Second alert (e.g., 15 days before)
+                new AlertWindow(config.getSecondAlertDays(),
+                        "Second reminder: Your policy will expire in " + config.getSecondAlertDays() + " days"),
+                // Final alert (e.g., 7 days before)
+                new AlertWindow(config.getFinalAlertDays(),
+                        "URGENT: Your policy will expire in " + config.getFinalAlertDays() + " days!")
+        ));
 
         // Audit log
         auditLogService.logAction(
@@ -132,7 +151,6 @@ public class RenewalService {
      * Auto-expire policies past renewal date (runs at 3:00 AM)
      */
     @Scheduled(cron = "0 0 3 * * ?")
-    @Transactional
     public void autoExpirePolicies() {
         log.info("Starting auto-expire policies job...");
 
@@ -143,14 +161,8 @@ public class RenewalService {
             return;
         }
 
-        LocalDate today = LocalDate.now();
-        List<Policy> expiredPolicies = policyRepository.findExpiredActivePolicies(today);
-
-        int expiredCount = 0;
-        for (Policy policy : expiredPolicies) {
-            expirePolicy(policy);
-            expiredCount++;
-        }
+        JobCheckpoint run = chunkedJobRunner.run(policyExpiryJob, expiryChunkSize);
+        statisticsSnapshotService.policiesChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -158,16 +170,16 @@ public class RenewalService {
                 "Scheduled Job",
                 "SYSTEM",
                 "AUTO_EXPIRE_POLICIES",
-                "Auto-expiry job completed. Policies expired: " + expiredCount
+                "Auto-expiry job " + run.getStatus().toLowerCase() + ". Policies expired: " + run.getRowsProcessed()
+                        + ", duration: " + run.getDurationMs() + " ms, policies/sec: " + run.getRowsPerSecond()
         );
 
-        log.info("Auto-expiry job completed. Policies expired: {}", expiredCount);
+        log.info("Auto-expiry job {}. Policies expired: {}", run.getStatus(), run.getRowsProcessed());
     }
 
     /**
      * Manual trigger for renewal check (Admin only)
      */
-    @Transactional
     public Map<String, Object> executeRenewalJobManually(String adminEmail) {
         Map<String, Object> result = new HashMap<>();
 
@@ -175,21 +187,24 @@ public class RenewalService {
         int totalAlertsSent = 0;
 
         if (config.getAlertsEnabled()) {
-            totalAlertsSent += sendRenewalAlerts(config.getFirstAlertDays(),
-                    "Reminder: Your policy will expire in " + config.getFirstAlertDays() + " days");
-            totalAlertsSent += sendRenewalAlerts(config.getSecondAlertDays(),
-                    "Reminder: Your policy will expire in " + config.getSecondAlertDays() + " days");
-            totalAlertsSent += sendRenewalAlerts(config.getFinalAlertDays(),
-                    "URGENT: Your policy will expire in " + config.getFinalAlertDays() + " days!");
+            totalAlertsSent = sendRenewalAlerts(List.of(
+                    new AlertWindow(config.getFirstAlertDays(),
+                            "Reminder: Your policy will expire in " + config.getFirstAlertDays() + " days"),
+                    new AlertWindow(config.getSecondAlertDays(),
+                            "Reminder: Your policy will expire in " + config.getSecondAlertDays() + " days"),
+                    new AlertWindow(config.getFinalAlertDays(),
+                            "URGENT: Your policy will expire in " + config.getFinalAlertDays() + " days!")
+            ));
         }
 
-        int expiredCount = 0;
+        long expiredCount = 0;
         if (config.getAutoExpireEnabled()) {
-            List<Policy> expiredPolicies = policyRepository.findExpiredActivePolicies(LocalDate.now());
-            for (Policy policy : expiredPolicies) {
-                expirePolicy(policy);
-                expiredCount++;
-            }
+            JobCheckpoint run = chunkedJobRunner.run(policyExpiryJob, expiryChunkSize);
+            statisticsSnapshotService.policiesChanged();
+            expiredCount = run.getRowsProcessed();
+            result.put("expiryStatus", run.getStatus());
+            result.put("expiryDurationMs", run.getDurationMs());
+            result.put("expiryPoliciesPerSecond", run.getRowsPerSecond());
         }
 
         result.put("alertsSent", totalAlertsSent);
@@ -235,6 +250,8 @@ public class RenewalService {
         policy.setRenewalDate(newRenewalDate);
         policy.setPolicyStatus("Active");
         Policy savedPolicy = policyRepository.save(policy);
+        policyCatalogCache.policiesChanged();
+        statisticsSnapshotService.policiesChanged();
 
         // Audit log
         auditLogService.logAction(
@@ -285,41 +302,7 @@ public class RenewalService {
      * Get renewal statistics for admin dashboard
      */
     public Map<String, Object> getRenewalStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        LocalDate today = LocalDate.now();
-
-        // Total active policies
-        long totalPolicies = policyRepository.countByPolicyStatus("Active");
-        stats.put("totalPolicies", totalPolicies);
-
-        // Policies expiring in next 7 days
-        long next7Days = policyRepository.countByRenewalDateBetweenAndPolicyStatus(
-                today, today.plusDays(7), "Active");
-
-        // Policies expiring in next 15 days
-        long next15Days = policyRepository.countByRenewalDateBetweenAndPolicyStatus(
-                today, today.plusDays(15), "Active");
-
-        // Policies expiring in next 30 days
-        long next30Days = policyRepository.countByRenewalDateBetweenAndPolicyStatus(
-                today, today.plusDays(30), "Active");
-
-        // Expired policies
-        long expired = policyRepository.countByPolicyStatus("Expired");
-        stats.put("expired", expired);
-
-        stats.put("expiringSoon", next30Days);
-
-        Map<String, Long> byTimeframe = new HashMap<>();
-        byTimeframe.put("next7Days", next7Days);
-        byTimeframe.put("next15Days", next15Days);
-        byTimeframe.put("next30Days", next30Days);
-        stats.put("byTimeframe", byTimeframe);
-
-        // Alerts sent today (placeholder - can be implemented with audit logs)
-        stats.put("alertsSentToday", 0);
-
-        return stats;
+        return statisticsSnapshotService.getRenewalStatistics();
     }
 
     // -------------------- Helper Methods --------------------
@@ -336,85 +319,95 @@ public class RenewalService {
         return renewalConfigRepository.save(config);
     }
 
-    private int sendRenewalAlerts(int daysBeforeExpiry, String alertMessage) {
+    /**
+     * Alert every employee enrolled in a policy that renews at the end of one of the windows.
+     * Recipients are loaded with one query and their notifications and emails are written with
+     * JDBC batches, committing every alertChunkSize recipients.
+     */
+    private int sendRenewalAlerts(List<AlertWindow> windows) {
         LocalDate today = LocalDate.now();
-        LocalDate targetDate = today.plusDays(daysBeforeExpiry);
+        Map<LocalDate, AlertWindow> windowsByDate = new LinkedHashMap<>();
+        for (AlertWindow window : windows) {
+            windowsByDate.putIfAbsent(today.plusDays(window.days()), window);
+        }
+        List<LocalDate> renewalDates = new ArrayList<>(windowsByDate.keySet());
 
-        // Find policies expiring on this exact date
-        List<Policy> policies = policyRepository.findByRenewalDateBetween(targetDate, targetDate);
+        List<RenewalAlertTarget> targets = enrollmentRepository.findRenewalAlertTargets(renewalDates);
 
         int alertCount = 0;
-        for (Policy policy : policies) {
-            // Notify enrolled employees
-            List<Enrollment> enrollments = enrollmentRepository.findActiveEnrollmentsByPolicyId(policy.getId());
-
-            for (Enrollment enrollment : enrollments) {
-                // In-app notification
-                inAppNotificationService.createNotification(
-                        "Policy Renewal Alert",
-                        alertMessage + " - " + policy.getPolicyName(),
-                        enrollment.getEmployee().getId(),
-                        "EMPLOYEE",
-                        "RENEWAL"
-                );
-
-                // Email notification
-                try {
-                    notificationService.sendRenewalAlertEmail(
-                            enrollment.getEmployee().getEmail(),
-                            enrollment.getEmployee().getName(),
-                            policy.getPolicyName(),
-                            policy.getRenewalDate(),
-                            daysBeforeExpiry
-                    );
-                } catch (Exception e) {
-                    log.error("Failed to send renewal alert email: {}", e.getMessage());
-                }
-
-                alertCount++;
+        for (int from = 0; from < targets.size(); from += alertChunkSize) {
+            List<RenewalAlertTarget> chunk = targets.subList(from, Math.min(from + alertChunkSize, targets.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> queueRenewalAlerts(chunk, windowsByDate));
+                alertCount += chunk.size();
+            } catch (RuntimeException e) {
+                log.error("Failed to queue renewal alerts {}-{} of {}: {}",
+                        from, from + chunk.size(), targets.size(), e.getMessage());
             }
+        }
 
-            // Also notify HR and Admin
-            inAppNotificationService.createNotificationForRole(
-                    "Policy Expiring Soon",
-                    policy.getPolicyName() + " expires in " + daysBeforeExpiry + " days",
-                    "HR",
-                    "RENEWAL"
-            );
-
-            inAppNotificationService.createNotificationForRole(
-                    "Policy Expiring Soon",
-                    policy.getPolicyName() + " expires in " + daysBeforeExpiry + " days",
-                    "ADMIN",
-                    "RENEWAL"
-            );
+        // Also notify HR and Admin with one digest broadcast per role for all expiring policies
+        List<Policy> expiringPolicies = policyRepository.findByRenewalDateIn(renewalDates);
+        if (!expiringPolicies.isEmpty()) {
+            String digest = expiringPoliciesDigest(expiringPolicies, windowsByDate);
+            transactionTemplate.executeWithoutResult(status -> {
+                inAppNotificationService.createNotificationForRole(EXPIRING_DIGEST_TITLE, digest, "HR", "RENEWAL");
+                inAppNotificationService.createNotificationForRole(EXPIRING_DIGEST_TITLE, digest, "ADMIN", "RENEWAL");
+            });
         }
 
+        statisticsSnapshotService.renewalAlertsSent();
         return alertCount;
     }
 
-    private void expirePolicy(Policy policy) {
-        LocalDate oldRenewalDate = policy.getRenewalDate();
+    // "3 policies expire soon: Gold Health (30 days), ..." kept within the notification message column
+    private static String expiringPoliciesDigest(List<Policy> policies, Map<LocalDate, AlertWindow> windowsByDate) {
+        StringBuilder digest = new StringBuilder()
+                .append(policies.size()).append(policies.size() == 1 ? " policy expires" : " policies expire").append(" soon: ");
+        for (int i = 0; i < policies.size(); i++) {
+            Policy policy = policies.get(i);
+            String entry = (i > 0 ? ", " : "") + policy.getPolicyName()
+                    + " (" + windowsByDate.get(policy.getRenewalDate()).days() + " days)";
+            String more = ", and " + (policies.size() - i) + " more";
+            if (digest.length() + entry.length() + more.length() > DIGEST_MAX_LENGTH) {
+                if (i == 0) return digest.append(entry, 0, DIGEST_MAX_LENGTH - digest.length()).toString();
+                return digest.append(more).toString();
+            }
+            digest.append(entry);
+        }
+        return digest.toString();
+    }
 
-        // Create renewal history entry for expiry
-        RenewalHistory history = new RenewalHistory(
-                policy,
-                oldRenewalDate,
-                oldRenewalDate, // same date
-                "SYSTEM",
-                "Expiry"
-        );
-        renewalHistoryRepository.save(history);
+    private void queueRenewalAlerts(List<RenewalAlertTarget> targets, Map<LocalDate, AlertWindow> windowsByDate) {
+        List<Notification> notifications = new ArrayList<>(targets.size());
+        List<EmailOutbox> emails = new ArrayList<>(targets.size());
 
-        // Update policy status
-        policy.setPolicyStatus("Expired");
-        policyRepository.save(policy);
+        for (RenewalAlertTarget target : targets) {
+            AlertWindow window = windowsByDate.get(target.getRenewalDate());
 
-        // Notify enrolled employees
-        notifyEnrolledEmployees(policy, "Policy Expired",
-                "Your policy " + policy.getPolicyName() + " has expired. Please contact HR for renewal options.");
+            // In-app notification
+            notifications.add(inAppNotificationService.buildNotification(
+                    RENEWAL_ALERT_TITLE,
+                    window.message() + " - " + target.getPolicyName(),
+                    target.getEmployeeId(),
+                    "EMPLOYEE",
+                    "RENEWAL"
+            ));
+
+            // Email notification
+            if (target.getEmployeeEmail() != null) {
+                emails.add(notificationService.buildRenewalAlertEmail(
+                        target.getEmployeeEmail(),
+                        target.getEmployeeName(),
+                        target.getPolicyName(),
+                        target.getRenewalDate(),
+                        window.days()
+                ));
+            }
+        }
 
-        log.info("Policy expired: {} (ID: {})", policy.getPolicyName(), policy.getId());
+        inAppNotificationService.createNotificationsInBatch(notifications);
+        emailOutboxService.enqueueAll(emails);
     }
 
     private void notifyEnrolledEmployees(Policy policy, String title, String message) {
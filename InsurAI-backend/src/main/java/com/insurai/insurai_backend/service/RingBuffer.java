@@ -0,0 +1,86 @@
+package com.insurai.insurai_backend.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Each slot carries a sequence number: producers claim a slot with one CAS on the tail and
+ * publish it by advancing the slot's sequence, so neither side ever blocks.
+ */
+public class RingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // next position to claim (producers)
+    private final AtomicLong head = new AtomicLong(); // next position to read (consumer only)
+
+    public RingBuffer(int requestedCapacity) {
+        int size = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.capacity = size;
+        this.mask = size - 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element from any thread.
+     *
+     * @return false if the buffer is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long lag = sequences.get(index) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                return false; // slot not yet released by the consumer: full
+            } else {
+                position = tail.get(); // another producer claimed it
+            }
+        }
+    }
+
+    /**
+     * Move up to {@code max} published elements into {@code target}. Single consumer only.
+     *
+     * @return number of elements drained
+     */
+    public int drainTo(List<E> target, int max) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) break; // empty, or claimed but not yet published
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+        }
+        head.set(position);
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,184 @@
+package com.insurai.insurai_backend.service;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.insurai.insurai_backend.repository.EnrollmentRepository;
+import com.insurai.insurai_backend.repository.NotificationRepository;
+import com.insurai.insurai_backend.repository.PolicyRepository;
+import com.insurai.insurai_backend.repository.ReimbursementRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dashboard statistics served from in-memory snapshots.
+ * Each domain's snapshot is one conditional-aggregation query. It is dropped when the domain
+ * changes (and again once the changing transaction completes), rebuilt on the next read, and
+ * refreshed on a schedule so date-relative counts roll over.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatisticsSnapshotService {
+
+    private enum Domain { RENEWALS, ENROLLMENTS, REIMBURSEMENTS }
+
+    private final PolicyRepository policyRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final ReimbursementRepository reimbursementRepository;
+    private final NotificationRepository notificationRepository;
+
+    private final Map<Domain, Map<String, Object>> snapshots = new ConcurrentHashMap<>();
+    private final Map<Domain, Long> versions = new EnumMap<>(Domain.class); // guarded by this
+
+    // -------------------- Reads --------------------
+
+    public Map<String, Object> getRenewalStatistics() {
+        return get(Domain.RENEWALS);
+    }
+
+    public Map<String, Object> getEnrollmentStatistics() {
+        return get(Domain.ENROLLMENTS);
+    }
+
+    public Map<String, Object> getReimbursementStatistics() {
+        return get(Domain.REIMBURSEMENTS);
+    }
+
+    // -------------------- Domain events --------------------
+
+    public void policiesChanged() {
+        markStale(Domain.RENEWALS);
+    }
+
+    public void renewalAlertsSent() {
+        markStale(Domain.RENEWALS);
+    }
+
+    public void enrollmentsChanged() {
+        markStale(Domain.ENROLLMENTS);
+    }
+
+    public void reimbursementsChanged() {
+        markStale(Domain.REIMBURSEMENTS);
+    }
+
+    @Scheduled(fixedDelayString = "${stats.snapshot.refresh-interval-ms:300000}")
+    public void refreshAll() {
+        for (Domain domain : Domain.values()) {
+            try {
+                refresh(domain);
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh {} statistics snapshot: {}", domain, e.getMessage());
+            }
+        }
+    }
+
+    // -------------------- Snapshots --------------------
+
+    private Map<String, Object> get(Domain domain) {
+        Map<String, Object> snapshot = snapshots.get(domain);
+        return snapshot != null ? snapshot : refresh(domain);
+    }
+
+    private Map<String, Object> refresh(Domain domain) {
+        long version = version(domain);
+        Map<String, Object> snapshot = Collections.unmodifiableMap(compute(domain));
+        synchronized (this) {
+            // A change that arrived while computing makes this snapshot stale already
+            if (version(domain) == version) {
+                snapshots.put(domain, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    private void markStale(Domain domain) {
+        invalidate(domain);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Reads inside the transaction window may have cached pre-commit counts
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(domain);
+                }
+            });
+        }
+    }
+
+    private synchronized void invalidate(Domain domain) {
+        versions.merge(domain, 1L, Long::sum);
+        snapshots.remove(domain);
+    }
+
+    private synchronized long version(Domain domain) {
+        return versions.getOrDefault(domain, 0L);
+    }
+
+    private Map<String, Object> compute(Domain domain) {
+        switch (domain) {
+            case RENEWALS:
+                return computeRenewalStatistics();
+            case ENROLLMENTS:
+                return computeEnrollmentStatistics();
+            default:
+                return computeReimbursementStatistics();
+        }
+    }
+
+    private Map<String, Object> computeRenewalStatistics() {
+        LocalDate today = LocalDate.now();
+        PolicyRepository.RenewalCounts counts = policyRepository.aggregateRenewalCounts(
+                today, today.plusDays(7), today.plusDays(15), today.plusDays(30));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalPolicies", counts.getActive());
+        stats.put("expired", counts.getExpired());
+        stats.put("expiringSoon", counts.getNext30Days());
+
+        Map<String, Long> byTimeframe = new LinkedHashMap<>();
+        byTimeframe.put("next7Days", counts.getNext7Days());
+        byTimeframe.put("next15Days", counts.getNext15Days());
+        byTimeframe.put("next30Days", counts.getNext30Days());
+        stats.put("byTimeframe", Collections.unmodifiableMap(byTimeframe));
+
+        // Employee renewal alerts created since midnight
+        stats.put("alertsSentToday", notificationRepository.countByTypeAndTitleSince(
+                "RENEWAL", RenewalService.RENEWAL_ALERT_TITLE, today.atStartOfDay()));
+        return stats;
+    }
+
+    private Map<String, Object> computeEnrollmentStatistics() {
+        EnrollmentRepository.StatusCounts counts = enrollmentRepository.aggregateStatusCounts();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalEnrollments", counts.getTotal());
+        stats.put("pendingCount", counts.getPending());
+        stats.put("approvedCount", counts.getApproved());
+        stats.put("rejectedCount", counts.getRejected());
+        stats.put("activeCount", counts.getActive());
+        return stats;
+    }
+
+    private Map<String, Object> computeReimbursementStatistics() {
+        ReimbursementRepository.StatusCounts counts = reimbursementRepository.aggregateStatusCounts();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalReimbursements", counts.getTotal());
+        stats.put("pendingCount", counts.getPending());
+        stats.put("processingCount", counts.getProcessing());
+        stats.put("completedCount", counts.getCompleted());
+        stats.put("failedCount", counts.getFailed());
+        return stats;
+    }
+}
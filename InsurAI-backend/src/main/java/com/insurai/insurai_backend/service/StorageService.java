@@ -0,0 +1,15 @@
+package com.insurai.insurai_backend.service;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Object storage for policy documents. The backend is chosen with {@code storage.backend}.
+ */
+public interface StorageService {
+
+    /**
+     * Store a file under the given path and return its public URL.
+     * Implementations stream the content and must be safe to call concurrently.
+     */
+    String uploadFile(MultipartFile file, String path);
+}
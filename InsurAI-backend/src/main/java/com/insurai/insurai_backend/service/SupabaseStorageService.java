@@ -1,20 +1,43 @@
 package com.insurai.insurai_backend.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
+/**
+ * Supabase (S3-compatible) storage. Also works against MinIO by pointing supabase.url at it.
+ * Files up to the multipart threshold are streamed in one PUT; larger files are sent as a
+ * multipart upload one part at a time, so heap use is bounded by the part size.
+ */
 @Service
-public class SupabaseStorageService {
+@ConditionalOnProperty(name = "storage.backend", havingValue = "supabase", matchIfMissing = true)
+public class SupabaseStorageService implements StorageService {
+
+    // S3 rejects multipart parts smaller than 5 MB (except the last one)
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
 
     @Value("${supabase.url}")
     private String supabaseUrl; //
@@ -31,37 +54,52 @@ public class SupabaseStorageService {
     @Value("${supabase.region:ap-south-1}")
     private String region;
 
+    @Value("${storage.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${storage.multipart-threshold-bytes:16777216}")
+    private long multipartThreshold;
+
+    @Value("${storage.multipart-part-size-bytes:8388608}")
+    private long partSize;
+
     private S3Client s3Client;
 
-    private void initS3Client() {
-        if (s3Client == null) {
-            s3Client = S3Client.builder()
-                    .endpointOverride(java.net.URI.create(supabaseUrl))
-                    .credentialsProvider(
-                            StaticCredentialsProvider.create(
-                                    AwsBasicCredentials.create(accessKey, secretKey)
-                            )
-                    )
-                    .region(Region.of(region))
-                    .build();
-        }
+    @PostConstruct
+    public void initS3Client() {
+        partSize = Math.max(partSize, MIN_PART_SIZE);
+        s3Client = S3Client.builder()
+                .endpointOverride(java.net.URI.create(supabaseUrl))
+                .credentialsProvider(
+                        StaticCredentialsProvider.create(
+                                AwsBasicCredentials.create(accessKey, secretKey)
+                        )
+                )
+                .region(Region.of(region))
+                .forcePathStyle(true)
+                .httpClientBuilder(ApacheHttpClient.builder().maxConnections(maxConnections))
+                .build();
     }
 
+    @Override
     public String uploadFile(MultipartFile file, String path) {
-        initS3Client();
-
         if (file == null || file.isEmpty()) {
             throw new RuntimeException("File is empty or null");
         }
 
-        try {
-            PutObjectRequest request = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(path)
-                    .acl("public-read") // optional: make file public
-                    .build();
+        try (InputStream in = file.getInputStream()) {
+            if (file.getSize() > multipartThreshold) {
+                uploadMultipart(in, path, file.getContentType());
+            } else {
+                PutObjectRequest request = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(path)
+                        .contentType(file.getContentType())
+                        .acl("public-read") // optional: make file public
+                        .build();
 
-            s3Client.putObject(request, RequestBody.fromBytes(file.getBytes()));
+                s3Client.putObject(request, RequestBody.fromInputStream(in, file.getSize()));
+            }
 
             // Construct public URL
             return String.format("%s/%s/%s", supabaseUrl, bucketName, path);
@@ -72,4 +110,55 @@ public class SupabaseStorageService {
             throw new RuntimeException("Failed to upload file: " + e.getMessage(), e);
         }
     }
+
+    private void uploadMultipart(InputStream in, String path, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(path)
+                .contentType(contentType)
+                .acl("public-read")
+                .build()).uploadId();
+
+        try {
+            // One reusable part buffer per upload
+            byte[] buffer = new byte[(int) partSize];
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            int length;
+            while ((length = in.readNBytes(buffer, 0, buffer.length)) > 0) {
+                String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(path)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) length)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length)).eTag();
+                parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(path)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            // Don't leave billed, invisible parts behind
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(path)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Unusual pattern / sudden spike: amount above {threshold} times the employee's average claim.
+ */
+@Component
+public class AmountSpikeRule implements FraudRule {
+
+    @Override
+    public String getCode() { return "AMOUNT_SPIKE"; }
+
+    @Override
+    public String getReason() { return "Unusual amount spike"; }
+
+    @Override
+    public int getCost() { return 1; }
+
+    @Override
+    public Double getDefaultThreshold() { return 3.0; }
+
+    @Override
+    public boolean matches(FraudContext context, FraudRuleParameters parameters) {
+        double avgAmount = context.getFeatures().averageAmount();
+        return avgAmount > 0 && context.getClaim().getAmount() > avgAmount * parameters.getThreshold();
+    }
+}
@@ -0,0 +1,28 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import org.springframework.stereotype.Component;
+
+import com.insurai.insurai_backend.model.Claim;
+
+/**
+ * Duplicate claim: same policy, same amount, same date.
+ */
+@Component
+public class DuplicateClaimRule implements FraudRule {
+
+    @Override
+    public String getCode() { return "DUPLICATE_CLAIM"; }
+
+    @Override
+    public String getReason() { return "Duplicate claim"; }
+
+    @Override
+    public int getCost() { return 1; }
+
+    @Override
+    public boolean matches(FraudContext context, FraudRuleParameters parameters) {
+        Claim claim = context.getClaim();
+        return context.getFeatures().hasDuplicate(
+                claim.getPolicy().getId(), claim.getAmount(), claim.getClaimDate().toLocalDate());
+    }
+}
@@ -0,0 +1,39 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.service.DocumentFingerprintSnapshot;
+import com.insurai.insurai_backend.service.EmployeeFraudFeatures;
+
+/**
+ * Everything a fraud rule may look at: the claim, the employee's running
+ * features and a single evaluation timestamp shared by all rules. Bulk re-scans
+ * also pass preloaded document fingerprints.
+ */
+public class FraudContext {
+
+    private final Claim claim;
+    private final EmployeeFraudFeatures features;
+    private final LocalDateTime now;
+    private final DocumentFingerprintSnapshot fingerprints;
+
+    public FraudContext(Claim claim, EmployeeFraudFeatures features, LocalDateTime now) {
+        this(claim, features, now, null);
+    }
+
+    public FraudContext(Claim claim, EmployeeFraudFeatures features, LocalDateTime now,
+                        DocumentFingerprintSnapshot fingerprints) {
+        this.claim = claim;
+        this.features = features;
+        this.now = now;
+        this.fingerprints = fingerprints;
+    }
+
+    public Claim getClaim() { return claim; }
+    public EmployeeFraudFeatures getFeatures() { return features; }
+    public LocalDateTime getNow() { return now; }
+    public LocalDate getToday() { return now.toLocalDate(); }
+    public DocumentFingerprintSnapshot getFingerprints() { return fingerprints; }
+}
@@ -0,0 +1,65 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Structured outcome of a fraud evaluation: total score, per-rule scores and timings.
+ */
+public class FraudEvaluationResult {
+
+    private final double score;
+    private final boolean flagged;
+    private final boolean shortCircuited;
+    private final long durationNanos;
+    private final List<RuleResult> ruleResults;
+
+    public FraudEvaluationResult(double score, boolean flagged, boolean shortCircuited,
+                                 long durationNanos, List<RuleResult> ruleResults) {
+        this.score = score;
+        this.flagged = flagged;
+        this.shortCircuited = shortCircuited;
+        this.durationNanos = durationNanos;
+        this.ruleResults = List.copyOf(ruleResults);
+    }
+
+    /**
+     * Reasons of all triggered rules, in the legacy "Reason; Reason;" format stored on the claim.
+     */
+    public String getReasonText() {
+        String text = ruleResults.stream()
+                .filter(RuleResult::isTriggered)
+                .map(r -> r.getReason() + ";")
+                .collect(Collectors.joining(" "));
+        return text.isEmpty() ? null : text;
+    }
+
+    public double getScore() { return score; }
+    public boolean isFlagged() { return flagged; }
+    public boolean isShortCircuited() { return shortCircuited; }
+    public long getDurationNanos() { return durationNanos; }
+    public List<RuleResult> getRuleResults() { return ruleResults; }
+
+    // -------------------- Per-rule result --------------------
+    public static class RuleResult {
+        private final String code;
+        private final String reason;
+        private final boolean triggered;
+        private final double score;
+        private final long durationNanos;
+
+        public RuleResult(String code, String reason, boolean triggered, double score, long durationNanos) {
+            this.code = code;
+            this.reason = reason;
+            this.triggered = triggered;
+            this.score = score;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getCode() { return code; }
+        public String getReason() { return reason; }
+        public boolean isTriggered() { return triggered; }
+        public double getScore() { return score; }
+        public long getDurationNanos() { return durationNanos; }
+    }
+}
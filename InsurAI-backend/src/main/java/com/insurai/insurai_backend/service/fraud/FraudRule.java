@@ -0,0 +1,30 @@
+package com.insurai.insurai_backend.service.fraud;
+
+/**
+ * A single fraud check evaluated by {@link FraudRuleEngine}.
+ * Implementations are Spring beans; whether they run, their score and their
+ * parameters come from the fraud_rule_config table.
+ */
+public interface FraudRule {
+
+    /** Stable code used as the key in fraud_rule_config. */
+    String getCode();
+
+    /** Text appended to the claim's fraud reason when the rule triggers. */
+    String getReason();
+
+    /** Relative evaluation cost; cheaper rules run first. */
+    int getCost();
+
+    /** Default threshold used when the config row does not set one. */
+    default Double getDefaultThreshold() {
+        return null;
+    }
+
+    /** Default look-back window used when the config row does not set one. */
+    default Integer getDefaultWindowDays() {
+        return null;
+    }
+
+    boolean matches(FraudContext context, FraudRuleParameters parameters);
+}
@@ -0,0 +1,167 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.insurai.insurai_backend.model.FraudRuleConfig;
+import com.insurai.insurai_backend.repository.FraudRuleConfigRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiles the enabled {@link FraudRule}s into one ordered pipeline (cheapest first)
+ * and evaluates claims against it, stopping early once the short-circuit score is reached.
+ * The pipeline is rebuilt from fraud_rule_config at startup, on a schedule and on demand.
+ */
+@Service
+@Slf4j
+public class FraudRuleEngine {
+
+    private final List<FraudRule> rules;
+    private final FraudRuleConfigRepository configRepository;
+    private final double flagThreshold;
+    private final double shortCircuitScore;
+
+    private volatile List<CompiledRule> pipeline = List.of();
+
+    public FraudRuleEngine(List<FraudRule> rules,
+                           FraudRuleConfigRepository configRepository,
+                           @Value("${fraud.engine.flag-threshold:1.0}") double flagThreshold,
+                           @Value("${fraud.engine.short-circuit-score:3.0}") double shortCircuitScore) {
+        this.rules = rules;
+        this.configRepository = configRepository;
+        this.flagThreshold = flagThreshold;
+        this.shortCircuitScore = shortCircuitScore;
+    }
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // Fall back to every rule with its defaults so claims are still scored
+            log.error("Failed to load fraud rule configuration, using defaults: {}", e.getMessage());
+            List<CompiledRule> defaults = new ArrayList<>();
+            for (FraudRule rule : rules) {
+                defaults.add(new CompiledRule(rule, FraudRuleParameters.of(rule, new FraudRuleConfig())));
+            }
+            defaults.sort(PIPELINE_ORDER);
+            pipeline = List.copyOf(defaults);
+        }
+    }
+
+    /**
+     * Periodic hot reload so config changes made directly in the table are picked up.
+     */
+    @Scheduled(fixedDelayString = "${fraud.engine.reload-interval-ms:60000}", initialDelayString = "${fraud.engine.reload-interval-ms:60000}")
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("Fraud rule reload failed, keeping current pipeline: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the pipeline from fraud_rule_config, creating default rows for new rules.
+     */
+    public synchronized void reload() {
+        Map<String, FraudRuleConfig> configs = new HashMap<>();
+        for (FraudRuleConfig config : configRepository.findAll()) {
+            configs.put(config.getRuleCode(), config);
+        }
+
+        List<CompiledRule> compiled = new ArrayList<>();
+        for (FraudRule rule : rules) {
+            FraudRuleConfig config = configs.get(rule.getCode());
+            if (config == null) {
+                config = configRepository.save(defaultConfig(rule));
+            }
+            if (Boolean.TRUE.equals(config.getEnabled())) {
+                compiled.add(new CompiledRule(rule, FraudRuleParameters.of(rule, config)));
+            }
+        }
+        compiled.sort(PIPELINE_ORDER);
+        pipeline = List.copyOf(compiled);
+
+        log.info("Fraud rule pipeline compiled: {}", compiled.stream().map(c -> c.rule.getCode()).toList());
+    }
+
+    /**
+     * Evaluate a claim against the compiled pipeline.
+     */
+    public FraudEvaluationResult evaluate(FraudContext context) {
+        List<CompiledRule> current = pipeline;
+        List<FraudEvaluationResult.RuleResult> results = new ArrayList<>(current.size());
+        double score = 0;
+        boolean shortCircuited = false;
+        long start = System.nanoTime();
+
+        for (CompiledRule compiled : current) {
+            long ruleStart = System.nanoTime();
+            boolean triggered;
+            try {
+                triggered = compiled.rule.matches(context, compiled.parameters);
+            } catch (Exception e) {
+                log.warn("Fraud rule {} failed: {}", compiled.rule.getCode(), e.getMessage());
+                triggered = false;
+            }
+            double ruleScore = triggered ? compiled.parameters.getScore() : 0;
+            score += ruleScore;
+            results.add(new FraudEvaluationResult.RuleResult(
+                    compiled.rule.getCode(), compiled.rule.getReason(), triggered, ruleScore, System.nanoTime() - ruleStart));
+
+            if (score >= shortCircuitScore) {
+                shortCircuited = results.size() < current.size();
+                break;
+            }
+        }
+
+        return new FraudEvaluationResult(score, score >= flagThreshold, shortCircuited, System.nanoTime() - start, results);
+    }
+
+    /**
+     * Codes of the enabled rules in evaluation order.
+     */
+    public List<String> getPipelineOrder() {
+        return pipeline.stream().map(c -> c.rule.getCode()).toList();
+    }
+
+    public List<FraudRule> getRules() {
+        return rules;
+    }
+
+    private FraudRuleConfig defaultConfig(FraudRule rule) {
+        FraudRuleConfig config = new FraudRuleConfig();
+        config.setRuleCode(rule.getCode());
+        config.setEnabled(true);
+        config.setScore(1.0);
+        config.setThreshold(rule.getDefaultThreshold());
+        config.setWindowDays(rule.getDefaultWindowDays());
+        config.setLastModifiedAt(LocalDateTime.now());
+        config.setLastModifiedBy("SYSTEM");
+        return config;
+    }
+
+    private static final Comparator<CompiledRule> PIPELINE_ORDER =
+            Comparator.comparingInt((CompiledRule c) -> c.rule.getCost()).thenComparing(c -> c.rule.getCode());
+
+    private static class CompiledRule {
+        private final FraudRule rule;
+        private final FraudRuleParameters parameters;
+
+        private CompiledRule(FraudRule rule, FraudRuleParameters parameters) {
+            this.rule = rule;
+            this.parameters = parameters;
+        }
+    }
+}
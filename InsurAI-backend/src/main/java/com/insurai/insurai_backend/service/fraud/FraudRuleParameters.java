@@ -0,0 +1,41 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import java.time.LocalDate;
+
+import com.insurai.insurai_backend.model.FraudRuleConfig;
+
+/**
+ * Immutable snapshot of a rule's configuration, taken when the pipeline is compiled.
+ */
+public class FraudRuleParameters {
+
+    private final double score;
+    private final Double threshold;
+    private final Integer windowDays;
+
+    public FraudRuleParameters(double score, Double threshold, Integer windowDays) {
+        this.score = score;
+        this.threshold = threshold;
+        this.windowDays = windowDays;
+    }
+
+    static FraudRuleParameters of(FraudRule rule, FraudRuleConfig config) {
+        return new FraudRuleParameters(
+                config.getScore() != null ? config.getScore() : 1.0,
+                config.getThreshold() != null ? config.getThreshold() : rule.getDefaultThreshold(),
+                config.getWindowDays() != null ? config.getWindowDays() : rule.getDefaultWindowDays()
+        );
+    }
+
+    public double getScore() { return score; }
+    public Double getThreshold() { return threshold; }
+    public Integer getWindowDays() { return windowDays; }
+
+    /**
+     * First calendar day of a {windowDays}-day window ending today: today plus the
+     * windowDays - 1 days before it, so the window never exceeds the old rolling bound.
+     */
+    public LocalDate windowStart(LocalDate today) {
+        return today.minusDays(windowDays - 1L);
+    }
+}
@@ -0,0 +1,31 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Frequent claims: at least {threshold} claims created in the last {windowDays} days.
+ */
+@Component
+public class FrequentClaimsRule implements FraudRule {
+
+    @Override
+    public String getCode() { return "FREQUENT_CLAIMS"; }
+
+    @Override
+    public String getReason() { return "Frequent claims"; }
+
+    @Override
+    public int getCost() { return 2; }
+
+    @Override
+    public Double getDefaultThreshold() { return 3.0; }
+
+    @Override
+    public Integer getDefaultWindowDays() { return 7; }
+
+    @Override
+    public boolean matches(FraudContext context, FraudRuleParameters parameters) {
+        long recentCount = context.getFeatures().countCreatedSince(parameters.windowStart(context.getToday()));
+        return recentCount >= parameters.getThreshold();
+    }
+}
@@ -0,0 +1,30 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import org.springframework.stereotype.Component;
+
+import com.insurai.insurai_backend.model.Claim;
+
+/**
+ * High-risk combinations (example: Life policy + minor illness).
+ */
+@Component
+public class HighRiskCombinationRule implements FraudRule {
+
+    @Override
+    public String getCode() { return "HIGH_RISK_COMBINATION"; }
+
+    @Override
+    public String getReason() { return "High-risk combination"; }
+
+    @Override
+    public int getCost() { return 0; }
+
+    @Override
+    public boolean matches(FraudContext context, FraudRuleParameters parameters) {
+        Claim claim = context.getClaim();
+        return claim.getPolicy().getPolicyType() != null
+                && claim.getPolicy().getPolicyType().equalsIgnoreCase("Life")
+                && claim.getTitle() != null
+                && claim.getTitle().equalsIgnoreCase("Minor Illness");
+    }
+}
@@ -0,0 +1,33 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+
+import com.insurai.insurai_backend.model.Claim;
+
+/**
+ * Invalid claim date: before policy start or after policy end/renewal.
+ */
+@Component
+public class InvalidClaimDateRule implements FraudRule {
+
+    @Override
+    public String getCode() { return "INVALID_CLAIM_DATE"; }
+
+    @Override
+    public String getReason() { return "Invalid claim date"; }
+
+    @Override
+    public int getCost() { return 0; }
+
+    @Override
+    public boolean matches(FraudContext context, FraudRuleParameters parameters) {
+        Claim claim = context.getClaim();
+        LocalDate claimDate = claim.getClaimDate().toLocalDate();
+        LocalDate policyStart = claim.getPolicy().getStartDate();
+        LocalDate policyEnd = claim.getPolicy().getRenewalDate(); // Replace with getEndDate() if available
+        return (policyStart != null && claimDate.isBefore(policyStart))
+                || (policyEnd != null && claimDate.isAfter(policyEnd));
+    }
+}
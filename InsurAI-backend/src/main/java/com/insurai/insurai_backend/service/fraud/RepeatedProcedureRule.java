@@ -0,0 +1,32 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Same procedure repeatedly: at least {threshold} claims with the same title in {windowDays} days.
+ */
+@Component
+public class RepeatedProcedureRule implements FraudRule {
+
+    @Override
+    public String getCode() { return "REPEATED_PROCEDURE"; }
+
+    @Override
+    public String getReason() { return "Repeated procedure"; }
+
+    @Override
+    public int getCost() { return 2; }
+
+    @Override
+    public Double getDefaultThreshold() { return 2.0; }
+
+    @Override
+    public Integer getDefaultWindowDays() { return 30; }
+
+    @Override
+    public boolean matches(FraudContext context, FraudRuleParameters parameters) {
+        long sameProcedureCount = context.getFeatures().countTitleSince(
+                context.getClaim().getTitle(), parameters.windowStart(context.getToday()));
+        return sameProcedureCount >= parameters.getThreshold();
+    }
+}
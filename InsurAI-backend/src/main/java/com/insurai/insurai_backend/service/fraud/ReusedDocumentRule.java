@@ -0,0 +1,52 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.service.DocumentFingerprintService;
+import com.insurai.insurai_backend.service.DocumentFingerprintSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reused documents: a file of this claim was already attached to an earlier claim.
+ * Matched by content hash across all employees; documents uploaded before hashing
+ * was introduced fall back to comparing paths within the employee's history.
+ * Re-scans answer from the fingerprints preloaded for their chunk instead of querying.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReusedDocumentRule implements FraudRule {
+
+    private final DocumentFingerprintService documentFingerprintService;
+
+    @Override
+    public String getCode() { return "REUSED_DOCUMENT"; }
+
+    @Override
+    public String getReason() { return "Reused document"; }
+
+    @Override
+    public int getCost() { return 4; }
+
+    @Override
+    public boolean matches(FraudContext context, FraudRuleParameters parameters) {
+        Claim claim = context.getClaim();
+        if (claim.getDocuments() == null || claim.getDocuments().isEmpty()) return false;
+
+        DocumentFingerprintSnapshot fingerprints = context.getFingerprints();
+        if (fingerprints != null) {
+            Set<String> contentHashes = fingerprints.getContentHashes(claim.getId());
+            if (!contentHashes.isEmpty()) return fingerprints.isReused(contentHashes, claim.getId());
+            return context.getFeatures().hasAnyDocument(claim.getDocuments());
+        }
+
+        Set<String> contentHashes = documentFingerprintService.getContentHashes(claim);
+        if (!contentHashes.isEmpty()) {
+            return documentFingerprintService.isReused(contentHashes, claim.getId());
+        }
+        return context.getFeatures().hasAnyDocument(claim.getDocuments());
+    }
+}
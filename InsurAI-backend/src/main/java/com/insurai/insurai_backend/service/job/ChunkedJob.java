@@ -0,0 +1,35 @@
+package com.insurai.insurai_backend.service.job;
+
+import java.util.List;
+
+/**
+ * A batch job that ChunkedJobRunner walks in ID order, one committed chunk at a time.
+ */
+public interface ChunkedJob<T> {
+
+    /**
+     * Unique name; the job's checkpoint is stored under it.
+     */
+    String getName();
+
+    /**
+     * Up to {@code limit} items with an ID greater than {@code afterId}, in ascending ID order.
+     */
+    List<T> readChunk(long afterId, int limit);
+
+    long idOf(T item);
+
+    /**
+     * Write one chunk. Runs in the chunk's transaction, together with the checkpoint update.
+     * Rows can change between the read and this transaction, so the job re-checks them here.
+     *
+     * @return the items actually written, which are passed to {@link #afterCommit}
+     */
+    List<T> writeChunk(List<T> chunk);
+
+    /**
+     * Side effects that must only happen once the chunk is committed (notifications, emails).
+     * Failures are logged and do not stop the job.
+     */
+    default void afterCommit(List<T> chunk) {}
+}
@@ -0,0 +1,122 @@
+package com.insurai.insurai_backend.service.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.insurai.insurai_backend.model.JobCheckpoint;
+import com.insurai.insurai_backend.repository.JobCheckpointRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs a ChunkedJob chunk by chunk. Each chunk's writes and its checkpoint commit together,
+ * so a crashed or failed run resumes after the last committed chunk instead of starting over.
+ * A run that completed leaves a checkpoint that the next run starts afresh from.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChunkedJobRunner {
+
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Run the job to completion, resuming from its checkpoint if the previous run did not finish.
+     *
+     * @return the checkpoint, with this run's duration and throughput
+     */
+    public <T> JobCheckpoint run(ChunkedJob<T> job, int chunkSize) {
+        if (!runningJobs.add(job.getName())) {
+            throw new IllegalStateException("Job " + job.getName() + " is already running");
+        }
+        try {
+            return runExclusively(job, chunkSize);
+        } finally {
+            runningJobs.remove(job.getName());
+        }
+    }
+
+    public Optional<JobCheckpoint> getCheckpoint(String jobName) {
+        return checkpointRepository.findByJobName(jobName);
+    }
+
+    private <T> JobCheckpoint runExclusively(ChunkedJob<T> job, int chunkSize) {
+        JobCheckpoint checkpoint = checkpointRepository.findByJobName(job.getName())
+                .orElseGet(() -> new JobCheckpoint(job.getName()));
+        if ("COMPLETED".equals(checkpoint.getStatus())) {
+            checkpoint.setLastProcessedId(0L);
+            checkpoint.setRowsProcessed(0);
+            checkpoint.setChunksCommitted(0);
+        }
+        boolean resumed = checkpoint.getLastProcessedId() > 0;
+
+        checkpoint.setStatus("RUNNING");
+        checkpoint.setStartedAt(LocalDateTime.now());
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpoint.setFinishedAt(null);
+        checkpoint.setLastError(null);
+        JobCheckpoint saved = checkpointRepository.save(checkpoint);
+
+        if (resumed) {
+            log.info("Job {} resuming after ID {}", job.getName(), saved.getLastProcessedId());
+        }
+
+        long runStart = System.nanoTime();
+        long rowsThisRun = 0;
+        try {
+            while (true) {
+                List<T> chunk = job.readChunk(saved.getLastProcessedId(), chunkSize);
+                if (chunk.isEmpty()) break;
+
+                long lastId = job.idOf(chunk.get(chunk.size() - 1));
+                List<T> written = transactionTemplate.execute(status -> {
+                    List<T> changed = job.writeChunk(chunk);
+                    checkpointRepository.advance(saved.getId(), lastId, chunk.size(), LocalDateTime.now());
+                    return changed;
+                });
+
+                // Mirror the committed checkpoint in memory
+                saved.setLastProcessedId(lastId);
+                saved.setRowsProcessed(saved.getRowsProcessed() + chunk.size());
+                saved.setChunksCommitted(saved.getChunksCommitted() + 1);
+                rowsThisRun += chunk.size();
+
+                if (written == null || written.isEmpty()) continue;
+                try {
+                    job.afterCommit(written);
+                } catch (RuntimeException e) {
+                    log.error("Job {}: post-commit step failed for chunk ending at ID {}: {}",
+                            job.getName(), lastId, e.getMessage());
+                }
+            }
+
+            saved.setStatus("COMPLETED");
+            saved.setFinishedAt(LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Job {} failed after ID {}: {}", job.getName(), saved.getLastProcessedId(), e.getMessage());
+            saved.setStatus("FAILED");
+            saved.setLastError(e.getMessage());
+        }
+
+        long durationMs = Duration.ofNanos(System.nanoTime() - runStart).toMillis();
+        saved.setDurationMs(durationMs);
+        saved.setRowsPerSecond(durationMs > 0 ? Math.round(rowsThisRun * 10000.0 / durationMs) / 10.0 : (double) rowsThisRun);
+        saved.setUpdatedAt(LocalDateTime.now());
+        JobCheckpoint finished = checkpointRepository.save(saved);
+
+        log.info("Job {} {}: {} rows in {} ms ({} rows/sec)",
+                job.getName(), finished.getStatus(), rowsThisRun, durationMs, finished.getRowsPerSecond());
+        return finished;
+    }
+}
@@ -0,0 +1,123 @@
+package com.insurai.insurai_backend.service.job;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.insurai.insurai_backend.model.EmailOutbox;
+import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.model.RenewalAlertTarget;
+import com.insurai.insurai_backend.repository.EnrollmentRepository;
+import com.insurai.insurai_backend.repository.PolicyRepository;
+import com.insurai.insurai_backend.service.EmailOutboxService;
+import com.insurai.insurai_backend.service.InAppNotificationService;
+import com.insurai.insurai_backend.service.NotificationService;
+import com.insurai.insurai_backend.service.PolicyCatalogCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Expires active policies whose renewal date has passed: one bulk status UPDATE and one
+ * batched renewal_history insert per chunk, then notifies enrolled employees once committed.
+ * Each chunk is re-read under a row lock, so only policies that are still due get expired,
+ * recorded and notified.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyExpiryJob implements ChunkedJob<Policy> {
+
+    public static final String NAME = "policy-auto-expiry";
+
+    private static final String HISTORY_INSERT_SQL =
+            "INSERT INTO renewal_history (policy_id, old_renewal_date, new_renewal_date, renewed_by, renewal_type, renewed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final PolicyRepository policyRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InAppNotificationService inAppNotificationService;
+    private final NotificationService notificationService;
+    private final EmailOutboxService emailOutboxService;
+    private final PolicyCatalogCache policyCatalogCache;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Policy> readChunk(long afterId, int limit) {
+        return policyRepository.findExpiredActivePoliciesAfter(LocalDate.now(), afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long idOf(Policy policy) {
+        return policy.getId();
+    }
+
+    @Override
+    public List<Policy> writeChunk(List<Policy> policies) {
+        // Re-check under lock: a policy renewed since the read is no longer due and is skipped
+        LocalDate today = LocalDate.now();
+        List<Long> ids = policies.stream().map(Policy::getId).toList();
+        List<Policy> due = policyRepository.lockExpiredActivePolicies(ids, today);
+        if (due.isEmpty()) return due;
+
+        policyRepository.expireActivePolicies(due.stream().map(Policy::getId).toList(), today);
+        policyCatalogCache.policiesChanged();
+
+        // Expiry history entry: renewal date is unchanged
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(HISTORY_INSERT_SQL, due, due.size(), (ps, policy) -> {
+            ps.setLong(1, policy.getId());
+            ps.setDate(2, Date.valueOf(policy.getRenewalDate()));
+            ps.setDate(3, Date.valueOf(policy.getRenewalDate()));
+            ps.setString(4, "SYSTEM");
+            ps.setString(5, "Expiry");
+            ps.setTimestamp(6, now);
+        });
+
+        log.info("Expired {} of {} policies read (IDs {}-{})",
+                due.size(), policies.size(), ids.get(0), ids.get(ids.size() - 1));
+        return due;
+    }
+
+    @Override
+    public void afterCommit(List<Policy> policies) {
+        List<RenewalAlertTarget> targets = enrollmentRepository.findRenewalAlertTargetsByPolicyIds(
+                policies.stream().map(Policy::getId).toList());
+
+        List<Notification> notifications = new ArrayList<>(targets.size());
+        List<EmailOutbox> emails = new ArrayList<>(targets.size());
+        for (RenewalAlertTarget target : targets) {
+            notifications.add(inAppNotificationService.buildNotification(
+                    "Policy Expired",
+                    "Your policy " + target.getPolicyName() + " has expired. Please contact HR for renewal options.",
+                    target.getEmployeeId(),
+                    "EMPLOYEE",
+                    "RENEWAL"
+            ));
+            if (target.getEmployeeEmail() != null) {
+                emails.add(notificationService.buildPolicyStatusEmail(
+                        target.getEmployeeEmail(), target.getEmployeeName(), target.getPolicyName(), "Expired"));
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            inAppNotificationService.createNotificationsInBatch(notifications);
+            emailOutboxService.enqueueAll(emails);
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurai.insurai_backend.model.AuditLog;
+import com.insurai.insurai_backend.repository.AuditLogRepository;
+
+@DataJpaTest
+class AuditArchiveServiceTest {
+
+    @TempDir
+    Path archiveDir;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AuditArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AuditArchiveService(auditLogRepository, jdbcTemplate, new ObjectMapper().findAndRegisterModules(),
+                6, archiveDir.toString(), 2);
+    }
+
+    @Test
+    void archivesEachExpiredMonthAcrossInterleavedIds() throws IOException {
+        YearMonth older = YearMonth.now().minusMonths(9);
+        YearMonth old = YearMonth.now().minusMonths(8);
+        // IDs of the two months interleave, as with late or backfilled writes
+        for (int i = 0; i < 5; i++) {
+            log("OLDER_" + i, older.atDay(1 + i).atStartOfDay());
+            log("OLD_" + i, old.atDay(1 + i).atStartOfDay());
+        }
+        log("RECENT", LocalDateTime.now());
+
+        List<Map<String, Object>> archived = service.archiveExpiredMonths();
+
+        assertEquals(2, archived.size());
+        assertEquals(older.toString(), archived.get(0).get("month"));
+        assertEquals(5L, archived.get(0).get("rows"));
+        assertEquals(5L, archived.get(0).get("deleted"));
+        assertEquals(old.toString(), archived.get(1).get("month"));
+        assertEquals(5L, archived.get(1).get("rows"));
+        assertEquals(5L, archived.get(1).get("deleted"));
+        assertEquals(5, countLines(Path.of((String) archived.get(0).get("file")), "OLDER_"));
+        assertEquals(5, countLines(Path.of((String) archived.get(1).get("file")), "OLD_"));
+        assertEquals(List.of("RECENT"), auditLogRepository.findAll().stream().map(AuditLog::getAction).toList());
+    }
+
+    private void log(String action, LocalDateTime timestamp) {
+        AuditLog entry = new AuditLog();
+        entry.setUserId("1");
+        entry.setUserName("Admin");
+        entry.setRole("ADMIN");
+        entry.setAction(action);
+        entry.setTimestamp(timestamp);
+        auditLogRepository.saveAndFlush(entry);
+    }
+
+    private static long countLines(Path file, String actionPrefix) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().filter(line -> line.contains("\"action\":\"" + actionPrefix)).count();
+        }
+    }
+}
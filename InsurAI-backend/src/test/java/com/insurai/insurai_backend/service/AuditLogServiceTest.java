@@ -0,0 +1,115 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.insurai.insurai_backend.model.AuditLog;
+import com.insurai.insurai_backend.repository.AuditLogRepository;
+
+class AuditLogServiceTest {
+
+    // Long enough that the background writer never drains the buffer during a test
+    private static final long FLUSH_INTERVAL_MS = 3_600_000;
+
+    private AuditLogRepository auditLogRepository;
+    private JdbcTemplate jdbcTemplate;
+    private List<String> batchedActions;
+    private AuditLogService service;
+
+    @BeforeEach
+    void setUp() {
+        auditLogRepository = mock(AuditLogRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        batchedActions = new ArrayList<>();
+        // The service reuses its batch list, so record the entries while the call is in progress
+        doAnswer(invocation -> {
+            Collection<AuditLog> batch = invocation.getArgument(1);
+            batch.forEach(entry -> batchedActions.add(entry.getAction()));
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<AuditLog>>any());
+        service = new AuditLogService(auditLogRepository, jdbcTemplate, true, Set.of("LOGIN"), 4, 2, FLUSH_INTERVAL_MS);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        service.shutdown();
+    }
+
+    @Test
+    void syncActionsAreSavedImmediately() {
+        service.logAction("1", "Admin", "ADMIN", "LOGIN", null);
+
+        verify(auditLogRepository).save(any(AuditLog.class));
+        assertEquals(1L, service.getMetrics().get("syncWrites"));
+        assertEquals(0, service.getMetrics().get("bufferDepth"));
+    }
+
+    @Test
+    void fullBufferFallsBackToSynchronousSave() {
+        for (int i = 0; i < 4; i++) {
+            service.logAction("1", "Admin", "ADMIN", "ACTION_" + i, null);
+        }
+        verify(auditLogRepository, never()).save(any(AuditLog.class));
+
+        service.logAction("1", "Admin", "ADMIN", "OVERFLOW", null);
+
+        ArgumentCaptor<AuditLog> saved = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogRepository).save(saved.capture());
+        assertEquals("OVERFLOW", saved.getValue().getAction());
+        assertEquals(4L, service.getMetrics().get("enqueued"));
+        assertEquals(1L, service.getMetrics().get("overflowed"));
+        assertEquals(4, service.getMetrics().get("bufferDepth"));
+    }
+
+    @Test
+    void shutdownFlushesBufferedEntriesInBatches() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            service.logAction("1", "Admin", "ADMIN", "ACTION_" + i, null);
+        }
+
+        service.shutdown();
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<AuditLog>>any());
+        assertEquals(List.of("ACTION_0", "ACTION_1", "ACTION_2"), batchedActions);
+        assertEquals(3L, service.getMetrics().get("written"));
+        assertEquals(2L, service.getMetrics().get("batches"));
+        assertEquals(0, service.getMetrics().get("bufferDepth"));
+    }
+
+    @Test
+    void failedBatchIsCountedAsDropped() throws InterruptedException {
+        doAnswer(invocation -> {
+            throw new IllegalStateException("database down");
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(),
+                ArgumentMatchers.<ParameterizedPreparedStatementSetter<AuditLog>>any());
+        service.logAction("1", "Admin", "ADMIN", "ACTION", null);
+
+        service.shutdown();
+
+        assertEquals(1L, service.getMetrics().get("dropped"));
+        assertEquals(0L, service.getMetrics().get("written"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.ClaimSummary;
+import com.insurai.insurai_backend.model.Employee;
+import com.insurai.insurai_backend.model.Hr;
+import com.insurai.insurai_backend.model.Policy;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Claim listings must stay at a fixed number of SQL statements however many claims they return:
+ * one projection query plus one document query per 1000 claims.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ClaimService.class)
+class ClaimListingQueryCountTest {
+
+    private static final int CLAIMS_PER_EMPLOYEE = 10;
+
+    @MockitoBean private HrService hrService;
+    @MockitoBean private HrWorkloadRegistry hrWorkloadRegistry;
+    @MockitoBean private NotificationService notificationService;
+    @MockitoBean private FraudService fraudService;
+    @MockitoBean private FraudFeatureStore fraudFeatureStore;
+    @MockitoBean private AsyncFraudScoringService asyncFraudScoringService;
+    @MockitoBean private DocumentFingerprintService documentFingerprintService;
+    @MockitoBean private InAppNotificationService inAppNotificationService;
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Employee employee;
+    private Hr hr;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Policy policy = new Policy("POL-1", "Gold Health", "Health", "Acme", 100_000.0, 500.0,
+                LocalDate.now().minusYears(1), LocalDate.now().plusYears(1), "Active", null, null, null, null, null);
+        entityManager.persist(policy);
+
+        hr = hr("HR-1");
+        Hr otherHr = hr("HR-2");
+        employee = employee("EMP-1");
+        Employee otherEmployee = employee("EMP-2");
+
+        for (int i = 0; i < CLAIMS_PER_EMPLOYEE; i++) {
+            claim(employee, policy, hr, i);
+            claim(otherEmployee, policy, otherHr, i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void allClaimsListingUsesTwoStatements() {
+        List<ClaimSummary> summaries = claimService.getAllClaimSummaries();
+
+        assertEquals(2 * CLAIMS_PER_EMPLOYEE, summaries.size());
+        assertEquals(2, summaries.get(0).getDocuments().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void hrListingUsesTwoStatements() {
+        List<ClaimSummary> summaries = claimService.getClaimSummariesByAssignedHr(hr.getId());
+
+        assertEquals(CLAIMS_PER_EMPLOYEE, summaries.size());
+        assertEquals("HR HR-1", summaries.get(0).getAssignedHrName());
+        assertEquals(2, summaries.get(0).getDocuments().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void employeeListingUsesTwoStatements() {
+        List<ClaimSummary> summaries = claimService.getClaimSummariesByEmployee(employee.getId());
+
+        assertEquals(CLAIMS_PER_EMPLOYEE, summaries.size());
+        assertEquals("Gold Health", summaries.get(0).getPolicyName());
+        assertEquals(2, summaries.get(0).getDocuments().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Hr hr(String hrId) {
+        Hr hr = new Hr();
+        hr.setName("HR " + hrId);
+        hr.setEmail(hrId.toLowerCase() + "@example.com");
+        hr.setPhoneNumber("555-0100");
+        hr.setHrId(hrId);
+        hr.setPassword("secret");
+        return entityManager.persist(hr);
+    }
+
+    private Employee employee(String employeeId) {
+        Employee employee = new Employee();
+        employee.setEmployeeId(employeeId);
+        employee.setName("Employee " + employeeId);
+        employee.setEmail(employeeId.toLowerCase() + "@example.com");
+        return entityManager.persist(employee);
+    }
+
+    private void claim(Employee employee, Policy policy, Hr hr, int index) {
+        String prefix = "uploads/" + employee.getEmployeeId() + "-" + index;
+        entityManager.persist(new Claim("Claim " + index, "Description", 1_000.0, LocalDateTime.now(),
+                employee, policy, hr, List.of(prefix + "-a.pdf", prefix + "-b.pdf")));
+    }
+}
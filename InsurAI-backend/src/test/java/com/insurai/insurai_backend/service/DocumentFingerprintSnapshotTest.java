@@ -0,0 +1,64 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.insurai.insurai_backend.model.DocumentFingerprint;
+import com.insurai.insurai_backend.repository.DocumentFingerprintRepository;
+
+@DataJpaTest
+@Import(DocumentFingerprintService.class)
+class DocumentFingerprintSnapshotTest {
+
+    @Autowired
+    private DocumentFingerprintService documentFingerprintService;
+
+    @Autowired
+    private DocumentFingerprintRepository fingerprintRepository;
+
+    @BeforeEach
+    void setUp() {
+        // Claim 10 and claim 30 share file "a"; claim 20 has its own file
+        fingerprintRepository.saveAll(List.of(
+                fingerprint("a", 10L, 1L),
+                fingerprint("b", 20L, 2L),
+                fingerprint("a", 30L, 3L),
+                fingerprint("c", 30L, 3L)));
+    }
+
+    @Test
+    void snapshotAnswersLikeThePerClaimQueries() {
+        DocumentFingerprintSnapshot snapshot = documentFingerprintService.snapshot(List.of(10L, 20L, 30L, 40L));
+
+        assertEquals(Set.of("a", "c"), snapshot.getContentHashes(30L));
+        assertEquals(Set.of(), snapshot.getContentHashes(40L));
+        for (Long claimId : List.of(10L, 20L, 30L)) {
+            Set<String> hashes = snapshot.getContentHashes(claimId);
+            assertEquals(documentFingerprintService.isReused(hashes, claimId), snapshot.isReused(hashes, claimId),
+                    "claim " + claimId);
+        }
+        assertFalse(snapshot.isReused(snapshot.getContentHashes(10L), 10L));
+        assertTrue(snapshot.isReused(snapshot.getContentHashes(30L), 30L));
+    }
+
+    @Test
+    void earlierClaimsOutsideTheSnapshotStillCount() {
+        DocumentFingerprintSnapshot snapshot = documentFingerprintService.snapshot(List.of(30L));
+
+        assertTrue(snapshot.isReused(snapshot.getContentHashes(30L), 30L));
+    }
+
+    private static DocumentFingerprint fingerprint(String hash, Long claimId, Long employeeId) {
+        return new DocumentFingerprint(hash, claimId, employeeId, "uploads/" + hash + ".pdf", 100L);
+    }
+}
@@ -0,0 +1,201 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.insurai.insurai_backend.model.EmailOutbox;
+import com.insurai.insurai_backend.repository.EmailOutboxRepository;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+
+class EmailOutboxServiceTest {
+
+    private static final int MAX_ATTEMPTS = 4;
+    private static final long INITIAL_BACKOFF = 30;
+    private static final long MAX_BACKOFF = 100;
+    private static final long LEASE = 300;
+
+    private EmailOutboxRepository outboxRepository;
+    private StubMailSender mailSender;
+    private EmailOutboxService service;
+    private List<EmailOutbox> due;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(EmailOutboxRepository.class);
+        due = new ArrayList<>();
+        when(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(eq(EmailOutboxService.PENDING), any(), any()))
+                .thenAnswer(invocation -> List.copyOf(due));
+        // Sent and dead emails are no longer due
+        when(outboxRepository.saveAll(any())).thenAnswer(invocation -> {
+            due.removeIf(email -> !EmailOutboxService.PENDING.equals(email.getStatus()));
+            return invocation.getArgument(0);
+        });
+        mailSender = new StubMailSender();
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        service = new EmailOutboxService(outboxRepository, mailSender, mock(JdbcTemplate.class), transactionTemplate,
+                50, MAX_ATTEMPTS, INITIAL_BACKOFF, MAX_BACKOFF, LEASE);
+    }
+
+    @Test
+    void successfulSendMarksEmailSent() {
+        EmailOutbox email = queue("ok@example.com");
+
+        service.dispatch();
+
+        assertEquals(EmailOutboxService.SENT, email.getStatus());
+        assertEquals(0, email.getAttempts());
+        assertTrue(email.getSentAt() != null);
+        assertEquals(1, mailSender.sent.size());
+    }
+
+    @Test
+    void failuresBackOffExponentiallyUpToTheCapThenGoDead() {
+        mailSender.failure = messages -> new MailSendException("SMTP 451 try again later");
+        EmailOutbox email = queue("slow@example.com");
+
+        long[] expectedBackoff = {30, 60, 100};
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime before = LocalDateTime.now();
+            service.dispatch();
+
+            assertEquals(EmailOutboxService.PENDING, email.getStatus());
+            assertEquals(attempt, email.getAttempts());
+            assertEquals("SMTP 451 try again later", email.getLastError());
+            long backoff = Duration.between(before, email.getNextAttemptAt()).toSeconds();
+            assertTrue(Math.abs(backoff - expectedBackoff[attempt - 1]) <= 1,
+                    "attempt " + attempt + " backed off " + backoff + "s");
+        }
+
+        service.dispatch();
+
+        assertEquals(EmailOutboxService.DEAD, email.getStatus());
+        assertEquals(MAX_ATTEMPTS, email.getAttempts());
+        assertEquals(3L, service.getMetrics().get("retried"));
+        assertEquals(1L, service.getMetrics().get("deadLettered"));
+    }
+
+    @Test
+    void onlyMessagesReportedAsFailedAreRetried() {
+        mailSender.failure = messages -> {
+            Map<Object, Exception> failed = new IdentityHashMap<>();
+            for (MimeMessage message : messages) {
+                if (recipient(message).startsWith("bad")) failed.put(message, new MessagingException("550 no such user"));
+            }
+            return new MailSendException(failed);
+        };
+        EmailOutbox good = queue("good@example.com");
+        EmailOutbox bad = queue("bad@example.com");
+
+        service.dispatch();
+
+        assertEquals(EmailOutboxService.SENT, good.getStatus());
+        assertNull(good.getLastError());
+        assertEquals(EmailOutboxService.PENDING, bad.getStatus());
+        assertEquals(1, bad.getAttempts());
+        assertEquals("550 no such user", bad.getLastError());
+    }
+
+    @Test
+    void connectionFailureRetriesTheWholeBatch() {
+        mailSender.failure = messages -> new MailAuthenticationException("535 bad credentials");
+        EmailOutbox first = queue("a@example.com");
+        EmailOutbox second = queue("b@example.com");
+
+        service.dispatch();
+
+        for (EmailOutbox email : List.of(first, second)) {
+            assertEquals(EmailOutboxService.PENDING, email.getStatus());
+            assertEquals(1, email.getAttempts());
+            assertEquals("535 bad credentials", email.getLastError());
+        }
+    }
+
+    @Test
+    void claimedEmailIsLeasedWhileItIsBeingSent() {
+        EmailOutbox email = queue("lease@example.com");
+        LocalDateTime[] dueAtSend = new LocalDateTime[1];
+        mailSender.failure = messages -> {
+            dueAtSend[0] = email.getNextAttemptAt();
+            return null;
+        };
+        LocalDateTime before = LocalDateTime.now();
+
+        service.dispatch();
+
+        // Other dispatchers would not see it as due until the lease ends
+        long lease = Duration.between(before, dueAtSend[0]).toSeconds();
+        assertTrue(Math.abs(lease - LEASE) <= 1, "leased for " + lease + "s");
+        assertEquals(EmailOutboxService.SENT, email.getStatus());
+    }
+
+    @Test
+    void retriedDeadLetterGetsAFreshAttemptBudget() throws Exception {
+        EmailOutbox email = new EmailOutbox("dead@example.com", "Subject", "<p>Body</p>");
+        email.setStatus(EmailOutboxService.DEAD);
+        email.setAttempts(MAX_ATTEMPTS);
+        when(outboxRepository.findById(7L)).thenReturn(Optional.of(email));
+        when(outboxRepository.save(email)).thenReturn(email);
+
+        service.retryDeadLetter(7L);
+
+        assertEquals(EmailOutboxService.PENDING, email.getStatus());
+        assertEquals(0, email.getAttempts());
+    }
+
+    private EmailOutbox queue(String recipient) {
+        EmailOutbox email = new EmailOutbox(recipient, "Subject", "<p>Body</p>");
+        email.setId((long) due.size() + 1);
+        due.add(email);
+        return email;
+    }
+
+    private static String recipient(MimeMessage message) {
+        try {
+            return ((InternetAddress) message.getAllRecipients()[0]).getAddress();
+        } catch (MessagingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Builds real MimeMessages but never opens a connection
+    private static class StubMailSender extends JavaMailSenderImpl {
+        Function<MimeMessage[], MailException> failure;
+        final List<MimeMessage> sent = new ArrayList<>();
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            MailException e = failure != null ? failure.apply(mimeMessages) : null;
+            if (e != null) throw e;
+            sent.addAll(List.of(mimeMessages));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class EmailTemplateTest {
+
+    @Test
+    void rendersTextAndMoneySlots() {
+        EmailTemplate template = EmailTemplate.compile("<p>Dear {{name}},</p><p>Amount: {{ amount:money }}</p>");
+
+        String html = template.render(Map.of("name", "Asha", "amount", 1234.5));
+
+        assertEquals("<p>Dear Asha,</p><p>Amount: " + String.format("%,.2f", 1234.5) + "</p>", html);
+    }
+
+    @Test
+    void templateWithoutSlotsRendersAsIs() {
+        assertEquals("<p>Hello</p>", EmailTemplate.compile("<p>Hello</p>").render(Map.of()));
+    }
+
+    @Test
+    void repeatedSlotsAndNullValuesRenderLikeConcatenation() {
+        EmailTemplate template = EmailTemplate.compile("{{a}}-{{b}}-{{a}}");
+
+        assertEquals("x-null-x", template.render(EmailTemplate.slots("a", "x", "b", null)));
+    }
+
+    @Test
+    void renderToAppendsToExistingBuffer() {
+        StringBuilder out = new StringBuilder("prefix:");
+
+        EmailTemplate.compile("[{{v}}]").renderTo(out, Map.of("v", 7));
+
+        assertEquals("prefix:[7]", out.toString());
+    }
+
+    @Test
+    void missingValueIsRejected() {
+        EmailTemplate template = EmailTemplate.compile("Hi {{name}}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+    }
+
+    @Test
+    void malformedTemplatesAreRejectedAtCompileTime() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("Hi {{name"));
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("{{amount:percent}}"));
+    }
+}
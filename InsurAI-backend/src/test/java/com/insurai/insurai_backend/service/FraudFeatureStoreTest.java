@@ -0,0 +1,101 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.model.Employee;
+import com.insurai.insurai_backend.repository.ClaimRepository;
+
+class FraudFeatureStoreTest {
+
+    private static final Long EMPLOYEE_ID = 7L;
+
+    private ClaimRepository claimRepository;
+    private FraudFeatureStore store;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        claimRepository = mock(ClaimRepository.class);
+        store = new FraudFeatureStore(claimRepository, 100);
+        employee = new Employee();
+        employee.setId(EMPLOYEE_ID);
+    }
+
+    @Test
+    void loadsOnceAndFoldsInNewClaims() {
+        when(claimRepository.findFraudHistoryByEmployeeId(EMPLOYEE_ID)).thenReturn(List.of(claim(1L)));
+
+        EmployeeFraudFeatures features = store.getFeatures(EMPLOYEE_ID);
+        store.recordClaim(claim(2L));
+
+        assertSame(features, store.getFeatures(EMPLOYEE_ID));
+        assertEquals(2, features.claimCount());
+        verify(claimRepository, times(1)).findFraudHistoryByEmployeeId(EMPLOYEE_ID);
+    }
+
+    @Test
+    void loadRacingAnInvalidateIsNotCached() {
+        when(claimRepository.findFraudHistoryByEmployeeId(EMPLOYEE_ID)).thenAnswer(invocation -> {
+            // The claim is edited after this history was read
+            store.invalidate(EMPLOYEE_ID);
+            return List.of(claim(1L));
+        }).thenReturn(List.of(claim(1L)));
+
+        store.getFeatures(EMPLOYEE_ID);
+        assertEquals(0, store.size());
+
+        EmployeeFraudFeatures reloaded = store.getFeatures(EMPLOYEE_ID);
+        assertSame(reloaded, store.getFeatures(EMPLOYEE_ID));
+        verify(claimRepository, times(2)).findFraudHistoryByEmployeeId(EMPLOYEE_ID);
+    }
+
+    @Test
+    void loadRacingANewClaimIsNotCached() {
+        when(claimRepository.findFraudHistoryByEmployeeId(EMPLOYEE_ID)).thenAnswer(invocation -> {
+            // Saved after this history was read, while the employee is not cached yet
+            store.recordClaim(claim(2L));
+            return List.of(claim(1L));
+        }).thenReturn(List.of(claim(1L), claim(2L)));
+
+        assertEquals(1, store.getFeatures(EMPLOYEE_ID).claimCount());
+        assertEquals(0, store.size());
+
+        assertEquals(2, store.getFeatures(EMPLOYEE_ID).claimCount());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void otherEmployeesChangesOnlyAffectTheirOwnStripe() {
+        when(claimRepository.findFraudHistoryByEmployeeId(EMPLOYEE_ID)).thenAnswer(invocation -> {
+            store.invalidate(EMPLOYEE_ID + 1);
+            return List.of(claim(1L));
+        });
+
+        store.getFeatures(EMPLOYEE_ID);
+
+        assertEquals(1, store.size());
+    }
+
+    private Claim claim(long id) {
+        Claim claim = new Claim();
+        ReflectionTestUtils.setField(claim, "id", id);
+        claim.setEmployee(employee);
+        claim.setAmount(100.0);
+        claim.setClaimDate(LocalDateTime.now());
+        claim.setCreatedAt(LocalDateTime.now());
+        return claim;
+    }
+}
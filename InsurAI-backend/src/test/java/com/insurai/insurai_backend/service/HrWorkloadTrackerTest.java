@@ -0,0 +1,61 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class HrWorkloadTrackerTest {
+
+    @Test
+    void assignsLeastLoadedAndCountsTheNewItem() {
+        HrWorkloadTracker tracker = new HrWorkloadTracker();
+        tracker.reset(List.of(1L, 2L, 3L), Map.of(1L, 5L, 2L, 1L, 3L, 3L));
+
+        assertEquals(2L, tracker.assignLeastLoaded());
+        assertEquals(2L, tracker.assignLeastLoaded());
+        assertEquals(Map.of(1L, 5L, 2L, 3L, 3L, 3L), tracker.snapshot());
+    }
+
+    @Test
+    void tiesGoToLowestHrId() {
+        HrWorkloadTracker tracker = new HrWorkloadTracker();
+        tracker.reset(List.of(9L, 4L, 7L), Map.of());
+
+        assertEquals(4L, tracker.assignLeastLoaded());
+        assertEquals(7L, tracker.assignLeastLoaded());
+        assertEquals(9L, tracker.assignLeastLoaded());
+        assertEquals(4L, tracker.assignLeastLoaded());
+    }
+
+    @Test
+    void decrementNeverGoesBelowZeroAndIgnoresUnknownHrs() {
+        HrWorkloadTracker tracker = new HrWorkloadTracker();
+        tracker.reset(List.of(1L), Map.of(1L, 1L));
+
+        tracker.decrement(1L);
+        tracker.decrement(1L);
+        tracker.decrement(42L);
+        tracker.decrement(null);
+
+        assertEquals(Map.of(1L, 0L), tracker.snapshot());
+    }
+
+    @Test
+    void addedAndRemovedHrsChangeTheCandidates() {
+        HrWorkloadTracker tracker = new HrWorkloadTracker();
+        tracker.reset(List.of(1L), Map.of(1L, 2L));
+
+        tracker.addHr(2L);
+        tracker.addHr(1L); // already tracked: keeps its count
+        assertEquals(2L, tracker.assignLeastLoaded());
+        assertEquals(2L, tracker.snapshot().get(1L));
+
+        tracker.removeHr(2L);
+        tracker.removeHr(1L);
+        assertNull(tracker.assignLeastLoaded());
+    }
+}
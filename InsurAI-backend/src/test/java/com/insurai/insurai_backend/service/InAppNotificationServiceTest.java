@@ -0,0 +1,86 @@
+package com.insurai.insurai_backend.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.repository.NotificationReadReceiptRepository;
+import com.insurai.insurai_backend.repository.NotificationRepository;
+
+class InAppNotificationServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private NotificationCounterService notificationCounterService;
+    private InAppNotificationService service;
+    private Notification unread;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        notificationCounterService = mock(NotificationCounterService.class);
+        service = new InAppNotificationService();
+        ReflectionTestUtils.setField(service, "notificationRepository", notificationRepository);
+        ReflectionTestUtils.setField(service, "notificationCounterService", notificationCounterService);
+        ReflectionTestUtils.setField(service, "readReceiptRepository", mock(NotificationReadReceiptRepository.class));
+
+        unread = new Notification();
+        unread.setId(7L);
+        unread.setTargetId(3L);
+        unread.setTargetRole("EMPLOYEE");
+        unread.setNotificationType("CLAIM");
+        unread.setReadStatus(false);
+        when(notificationRepository.findById(7L)).thenReturn(Optional.of(unread));
+    }
+
+    @Test
+    void markAsReadUncountsWhenThisCallReadTheRow() {
+        when(notificationRepository.markReadIfUnread(eq(7L), any())).thenReturn(1);
+
+        service.markAsRead(7L);
+
+        verify(notificationCounterService).unreadRemoved(unread);
+    }
+
+    @Test
+    void markAsReadDoesNotUncountWhenAConcurrentCallReadItFirst() {
+        // Both calls loaded the row as unread; the other one's UPDATE matched it
+        when(notificationRepository.markReadIfUnread(eq(7L), any())).thenReturn(0);
+
+        service.markAsRead(7L);
+
+        verify(notificationCounterService, never()).unreadRemoved(any(Notification.class));
+    }
+
+    @Test
+    void deleteUncountsOnlyWhenTheRowWasStillUnread() {
+        when(notificationRepository.deleteByIdAndReadStatus(7L, false)).thenReturn(1);
+
+        service.deleteNotification(7L);
+
+        verify(notificationCounterService).unreadRemoved(unread);
+        verify(notificationRepository, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void deleteOfARowReadMeanwhileDoesNotUncount() {
+        // Loaded as unread, but marked read before the delete ran
+        when(notificationRepository.deleteByIdAndReadStatus(7L, false)).thenReturn(0);
+
+        service.deleteNotification(7L);
+
+        verify(notificationCounterService, never()).unreadRemoved(any(Notification.class));
+        verify(notificationRepository).deleteByIds(List.of(7L));
+    }
+}
@@ -0,0 +1,41 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() throws Exception {
+        LocalDateTime at = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+        String cursor = KeysetCursor.encode(at, 4242L);
+
+        assertFalse(cursor.contains("=") || cursor.contains("+") || cursor.contains("/"));
+        assertEquals(new KeysetCursor(at, 4242L), KeysetCursor.decode(cursor));
+    }
+
+    @Test
+    void rowWithoutTimestampHasNoCursor() {
+        assertNull(KeysetCursor.encode(null, 1L));
+        assertNull(KeysetCursor.encode(LocalDateTime.now(), null));
+    }
+
+    @Test
+    void missingCursorMeansFirstPage() throws Exception {
+        assertEquals(new KeysetCursor(null, null), KeysetCursor.decode(null));
+        assertEquals(new KeysetCursor(null, null), KeysetCursor.decode(" "));
+    }
+
+    @Test
+    void garbageCursorIsRejected() {
+        Exception e = assertThrows(Exception.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertEquals("Invalid cursor: not-a-cursor", e.getMessage());
+    }
+}
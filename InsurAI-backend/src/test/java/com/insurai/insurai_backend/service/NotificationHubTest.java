@@ -0,0 +1,198 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.repository.NotificationRepository;
+
+class NotificationHubTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    private NotificationRepository notificationRepository;
+    private RecordingEmitter emitter;
+    private NotificationHub hub;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        when(notificationRepository.findForSubscriberAfter(any(), any(), anyLong(), any())).thenReturn(List.of());
+        emitter = new RecordingEmitter();
+        hub = new NotificationHub(notificationRepository, 60_000, 200, 2, 500) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void batchCommittedAfterHigherSingleNotificationIsStillDelivered() throws Exception {
+        hub.subscribe("EMPLOYEE", 7L, null);
+
+        // A single notification (ID 20) commits before a JDBC batch that was given IDs 11-13
+        hub.publish(notification(20));
+        emitter.awaitSent(1);
+
+        when(notificationRepository.findForSubscriberAfter(eq("EMPLOYEE"), eq(7L), eq(10L), any()))
+                .thenReturn(List.of(notification(11), notification(12), notification(13), notification(20)));
+        hub.publishBatch(List.of(notification(null), notification(null), notification(null)), 10L);
+
+        emitter.awaitSent(4);
+        assertEquals(List.of(20L, 11L, 12L, 13L), emitter.sentIds());
+    }
+
+    @Test
+    void liveSendOfReplayedNotificationIsNotRepeated() throws Exception {
+        when(notificationRepository.findForSubscriberAfter(eq("EMPLOYEE"), eq(7L), eq(5L), any()))
+                .thenReturn(List.of(notification(6), notification(8)));
+        hub.subscribe("EMPLOYEE", 7L, 5L);
+        emitter.awaitSent(2);
+
+        hub.publish(notification(8));
+        hub.publish(notification(9));
+
+        emitter.awaitSent(3);
+        assertEquals(List.of(6L, 8L, 9L), emitter.sentIds());
+    }
+
+    @Test
+    void replayAfterLastEventIdPagesThroughEverything() throws Exception {
+        hub = new NotificationHub(notificationRepository, 60_000, 2, 2, 500) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitter;
+            }
+        };
+        when(notificationRepository.findForSubscriberAfter(eq("HR"), eq(3L), eq(100L), any()))
+                .thenReturn(List.of(notification(101, "HR", 3L), notification(102, "HR", 0L)));
+        when(notificationRepository.findForSubscriberAfter(eq("HR"), eq(3L), eq(102L), any()))
+                .thenReturn(List.of(notification(105, "HR", 3L)));
+
+        hub.subscribe("hr", 3L, 100L);
+
+        emitter.awaitSent(3);
+        assertEquals(List.of(101L, 102L, 105L), emitter.sentIds());
+    }
+
+    @Test
+    void slowSubscriberIsDroppedWithoutDelayingOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter slow = new BlockingEmitter(release);
+        Deque<SseEmitter> emitters = new ArrayDeque<>(List.of(slow, emitter));
+        hub = new NotificationHub(notificationRepository, 60_000, 200, 2, 2) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.removeFirst();
+            }
+        };
+        hub.subscribe("EMPLOYEE", 1L, null);
+        hub.subscribe("EMPLOYEE", 7L, null);
+
+        // The slow client's socket blocks on its first send; two more fill its queue, the next overflows it
+        for (int id = 1; id <= 4; id++) hub.publish(notification(id, "EMPLOYEE", 1L));
+        hub.publish(notification(10));
+
+        emitter.awaitSent(1);
+        assertEquals(List.of(10L), emitter.sentIds());
+        assertEquals(1L, hub.getMetrics().get("slowDropped"));
+        assertEquals(1L, hub.getMetrics().get("connections"));
+
+        release.countDown();
+        assertTrue(slow.completed.await(5, TimeUnit.SECONDS));
+    }
+
+    private static Notification notification(Integer id) {
+        return notification(id, "EMPLOYEE", 7L);
+    }
+
+    private static Notification notification(Integer id, String role, Long targetId) {
+        Notification notification = new Notification();
+        notification.setId(id != null ? id.longValue() : null);
+        notification.setTargetRole(role);
+        notification.setTargetId(targetId);
+        notification.setTitle("Title");
+        notification.setMessage("Message");
+        return notification;
+    }
+
+    // A client whose socket write blocks until released
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    // Records the IDs of the events sent instead of writing to a response
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<Long> sent = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            for (DataWithMediaType part : builder.build()) {
+                Matcher matcher = EVENT_ID.matcher(String.valueOf(part.getData()));
+                if (matcher.find()) sent.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+
+        List<Long> sentIds() {
+            synchronized (sent) {
+                return new ArrayList<>(sent);
+            }
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            // Give the hub thread a moment to send anything unexpected
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.insurai.insurai_backend.model.Notification;
+import com.insurai.insurai_backend.repository.NotificationReadReceiptRepository;
+import com.insurai.insurai_backend.repository.NotificationRepository;
+
+class NotificationRetentionServiceTest {
+
+    @TempDir
+    Path archiveDir;
+
+    private NotificationRepository notificationRepository;
+    private NotificationCounterService notificationCounterService;
+    private NotificationRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        notificationCounterService = mock(NotificationCounterService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        service = new NotificationRetentionService(notificationRepository, mock(NotificationReadReceiptRepository.class),
+                notificationCounterService, mock(JdbcTemplate.class), transactionTemplate,
+                JsonMapper.builder().findAndAddModules().build(), 90, 1, 1000, 1000, archiveDir.toString());
+
+        // One user over the cap of 1 with two unread notifications outside it
+        when(notificationRepository.findRecipientsOverCap(1)).thenReturn(List.<Object[]>of(new Object[] {"EMPLOYEE", 3L}));
+        when(notificationRepository.findRecipientIdsNewestFirst(eq("EMPLOYEE"), eq(3L), any())).thenReturn(List.of(2L));
+        when(notificationRepository.findRecipientChunk(eq("EMPLOYEE"), eq(3L), anyLong(), eq(2L), any()))
+                .thenReturn(List.of(unread(1L), unread(2L)));
+        when(notificationRepository.deleteByIds(any())).thenReturn(2);
+    }
+
+    @Test
+    void uncountsOnlyRowsStillUnreadAtDeleteTime() throws Exception {
+        // Notification 1 was marked read (and uncounted) after it was collected
+        List<Notification> stillUnread = List.of(unread(2L));
+        when(notificationRepository.lockUnreadByIds(List.of(1L, 2L))).thenReturn(stillUnread);
+
+        Map<String, Object> summary = service.runRetention();
+
+        assertEquals(2L, summary.get("deleted"));
+        verify(notificationCounterService).unreadRemoved(stillUnread);
+    }
+
+    private static Notification unread(Long id) {
+        Notification notification = new Notification();
+        notification.setId(id);
+        notification.setTargetId(3L);
+        notification.setTargetRole("EMPLOYEE");
+        notification.setNotificationType("CLAIM");
+        notification.setReadStatus(false);
+        notification.setCreatedAt(LocalDateTime.now().minusDays(1));
+        return notification;
+    }
+}
@@ -0,0 +1,100 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.repository.PolicyRepository;
+
+class PolicyCatalogCacheLoadingTest {
+
+    private PolicyRepository policyRepository;
+
+    @BeforeEach
+    void setUp() {
+        policyRepository = mock(PolicyRepository.class);
+    }
+
+    @Test
+    void oversizedCatalogIsRememberedUntilInvalidated() {
+        PolicyCatalogCache cache = new PolicyCatalogCache(policyRepository, 600_000, 1);
+        Policy policy = policy(1L, "Active");
+        when(policyRepository.findAllUnmanaged()).thenReturn(List.of(policy, policy(2L, "Active")));
+        when(policyRepository.findById(1L)).thenReturn(Optional.of(policy));
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(policy, cache.getById(1L).orElseThrow());
+        }
+
+        verify(policyRepository, times(1)).findAllUnmanaged();
+        verify(policyRepository, times(3)).findById(1L);
+        assertEquals(true, cache.getMetrics().get("oversized"));
+
+        cache.policiesChanged();
+        cache.getById(1L);
+        verify(policyRepository, times(2)).findAllUnmanaged();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        PolicyCatalogCache cache = new PolicyCatalogCache(policyRepository, 600_000, 100);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Policy> policies = List.of(policy(1L, "Active"), policy(2L, "Expired"));
+        when(policyRepository.findAllUnmanaged()).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(release.await(10, TimeUnit.SECONDS));
+            return policies;
+        });
+
+        CompletableFuture<List<Policy>> first = CompletableFuture.supplyAsync(cache::getAll);
+        assertTrue(loading.await(10, TimeUnit.SECONDS));
+        CompletableFuture<List<Policy>> second = new CompletableFuture<>();
+        Thread waiter = new Thread(() -> second.complete(cache.getByStatus("Active")));
+        waiter.start();
+        // The second reader parks on the in-flight load instead of starting its own
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals(policies, first.get(10, TimeUnit.SECONDS));
+        assertEquals(List.of(policies.get(0)), second.get(10, TimeUnit.SECONDS));
+        verify(policyRepository, times(1)).findAllUnmanaged();
+    }
+
+    @Test
+    void failedLoadIsNotLeftInFlight() {
+        PolicyCatalogCache cache = new PolicyCatalogCache(policyRepository, 600_000, 100);
+        List<Policy> policies = List.of(policy(1L, "Active"));
+        when(policyRepository.findAllUnmanaged())
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(policies);
+
+        assertThrows(IllegalStateException.class, cache::getAll);
+
+        assertEquals(policies, cache.getAll());
+    }
+
+    private static Policy policy(Long id, String status) {
+        Policy policy = new Policy();
+        policy.setId(id);
+        policy.setPolicyStatus(status);
+        return policy;
+    }
+}
@@ -0,0 +1,83 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.repository.PolicyRepository;
+
+import jakarta.persistence.EntityManager;
+
+// Not wrapped in a test transaction, so the cache's own transaction sees committed rows
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PolicyCatalogCache.class)
+class PolicyCatalogCacheTest {
+
+    @Autowired
+    private PolicyCatalogCache cache;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long policyId;
+
+    @BeforeEach
+    void setUp() {
+        policyId = policyRepository.save(new Policy("POL-1", "Gold Health", "Health", "Acme", 100_000.0, 500.0,
+                LocalDate.now().minusYears(1), LocalDate.now().plusYears(1), "Active", null, null, null, null, null))
+                .getId();
+        cache.policiesChanged();
+    }
+
+    @AfterEach
+    void tearDown() {
+        policyRepository.deleteAll();
+    }
+
+    @Test
+    void cachedPoliciesAreDetachedFromTheCallersPersistenceContext() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Policy cached = cache.getById(policyId).orElseThrow();
+            assertFalse(entityManager.contains(cached));
+
+            // Must not be flushed when the caller's transaction commits
+            cached.setPolicyName("Changed by a reader");
+        });
+
+        assertEquals("Gold Health", policyRepository.findById(policyId).orElseThrow().getPolicyName());
+    }
+
+    @Test
+    void servesTheSameCatalogUntilPoliciesChange() {
+        Policy first = cache.getById(policyId).orElseThrow();
+        assertSame(first, cache.getAll().get(0));
+        assertSame(first, cache.getByStatus("Active").get(0));
+
+        cache.policiesChanged();
+
+        Policy reloaded = cache.getById(policyId).orElseThrow();
+        assertEquals(policyId, reloaded.getId());
+        assertFalse(first == reloaded);
+    }
+}
@@ -0,0 +1,123 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+
+import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.repository.PolicyRepository;
+
+class PolicyServiceUploadTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private PolicyRepository policyRepository;
+    private PolicyCatalogCache policyCatalogCache;
+    private PolicyService policyService;
+    private Policy policy;
+
+    @BeforeEach
+    void setUp() {
+        policyRepository = mock(PolicyRepository.class);
+        policyCatalogCache = mock(PolicyCatalogCache.class);
+        policyService = new PolicyService(policyRepository, new LocalStorageService(uploadDir.toString()),
+                mock(StatisticsSnapshotService.class), policyCatalogCache, 2);
+
+        policy = new Policy();
+        policy.setId(5L);
+        when(policyRepository.findById(5L)).thenReturn(Optional.of(policy));
+        when(policyRepository.save(any(Policy.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        policyService.shutdown();
+    }
+
+    @Test
+    void uploadsEveryDocumentAndSavesTheUrls() throws IOException {
+        Policy saved = policyService.uploadDocuments(5L, pdf("contract.pdf"), pdf("terms.pdf"),
+                pdf("claim.pdf"), pdf("annexure.pdf"));
+
+        assertStored(saved.getContractUrl(), "contract", "contract.pdf");
+        assertStored(saved.getTermsUrl(), "terms", "terms.pdf");
+        assertStored(saved.getClaimFormUrl(), "claim_form", "claim.pdf");
+        assertStored(saved.getAnnexureUrl(), "annexure", "annexure.pdf");
+        verify(policyRepository).save(policy);
+        verify(policyCatalogCache).policiesChanged();
+    }
+
+    @Test
+    void missingDocumentsAreSkipped() throws IOException {
+        MockMultipartFile empty = new MockMultipartFile("terms", "terms.pdf", "application/pdf", new byte[0]);
+
+        Policy saved = policyService.uploadDocuments(5L, pdf("contract.pdf"), empty, null, null);
+
+        assertStored(saved.getContractUrl(), "contract", "contract.pdf");
+        assertNull(saved.getTermsUrl());
+        assertNull(saved.getClaimFormUrl());
+        assertNull(saved.getAnnexureUrl());
+    }
+
+    @Test
+    void failedUploadAbortsWithoutSavingThePolicy() {
+        MockMultipartFile broken = new MockMultipartFile("terms", "terms.pdf", "application/pdf", new byte[] {1}) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                throw new IOException("disk unplugged");
+            }
+        };
+
+        RuntimeException e = assertThrows(RuntimeException.class, () ->
+                policyService.uploadDocuments(5L, pdf("contract.pdf"), broken, null, null));
+
+        assertTrue(e.getMessage().startsWith("Failed to upload policy documents"), e.getMessage());
+        assertTrue(e.getMessage().contains("disk unplugged"), e.getMessage());
+        verify(policyRepository, never()).save(any(Policy.class));
+        verify(policyCatalogCache, never()).policiesChanged();
+    }
+
+    @Test
+    void unknownPolicyIsRejectedBeforeAnyUpload() throws IOException {
+        when(policyRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () ->
+                policyService.uploadDocuments(9L, pdf("contract.pdf"), null, null, null));
+
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    private static MockMultipartFile pdf(String name) {
+        return new MockMultipartFile("file", name, "application/pdf", name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void assertStored(String url, String type, String originalName) throws IOException {
+        String prefix = "/uploads/policies/5/" + type + "_";
+        assertTrue(url.startsWith(prefix) && url.endsWith(".pdf"), url);
+        Path file = uploadDir.resolve(url.substring("/uploads/".length()));
+        assertArrayEquals(originalName.getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file));
+    }
+}
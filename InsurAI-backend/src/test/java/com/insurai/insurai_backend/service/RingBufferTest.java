@@ -0,0 +1,109 @@
+package com.insurai.insurai_backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertEquals(8, new RingBuffer<Integer>(8).capacity());
+        assertEquals(16, new RingBuffer<Integer>(9).capacity());
+    }
+
+    @Test
+    void offerReturnsFalseWhenFull() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        for (int i = 0; i < buffer.capacity(); i++) {
+            assertTrue(buffer.offer(i));
+        }
+
+        assertFalse(buffer.offer(99));
+        assertEquals(buffer.capacity(), buffer.size());
+    }
+
+    @Test
+    void wrapsAroundAtCapacityInOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+
+        // Several laps: the slots are reused once the consumer has released them
+        int next = 0;
+        for (int lap = 0; lap < 5; lap++) {
+            while (buffer.offer(next)) next++;
+            assertEquals(3, buffer.drainTo(drained, 3));
+        }
+        buffer.drainTo(drained, Integer.MAX_VALUE);
+
+        assertEquals(0, buffer.size());
+        for (int i = 0; i < drained.size(); i++) {
+            assertEquals(i, drained.get(i));
+        }
+        assertEquals(next, drained.size());
+    }
+
+    @Test
+    void drainToRespectsMax() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(8);
+        for (int i = 0; i < 5; i++) buffer.offer(i);
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(2, buffer.drainTo(drained, 2));
+        assertEquals(List.of(0, 1), drained);
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    void concurrentProducersWithSingleConsumerLoseAndDuplicateNothing() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        RingBuffer<Integer> buffer = new RingBuffer<>(256);
+        ExecutorService pool = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!buffer.offer(base + i)) Thread.onSpinWait();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            int total = producers * perProducer;
+            List<Integer> drained = new ArrayList<>(total);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (drained.size() < total && System.nanoTime() < deadline) {
+                if (buffer.drainTo(drained, 64) == 0) Thread.onSpinWait();
+            }
+            for (Future<?> future : futures) future.get(5, TimeUnit.SECONDS);
+
+            assertEquals(total, drained.size());
+            Set<Integer> unique = new HashSet<>(drained);
+            assertEquals(total, unique.size());
+            for (int i = 0; i < total; i++) {
+                assertTrue(unique.contains(i), "missing " + i);
+            }
+            assertEquals(0, buffer.size());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.insurai.insurai_backend.service.fraud;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.insurai.insurai_backend.model.Claim;
+import com.insurai.insurai_backend.service.EmployeeFraudFeatures;
+
+// The day-bucket windows must not reach further back than the old rolling now.minusDays(n) bound
+class FraudWindowRulesTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 15, 12, 0);
+
+    private long nextId = 1;
+
+    @Test
+    void frequentClaimsCountsOnlyTheLastSevenCalendarDays() {
+        FrequentClaimsRule rule = new FrequentClaimsRule();
+        FraudRuleParameters parameters = new FraudRuleParameters(1.0, 3.0, 7);
+
+        EmployeeFraudFeatures features = new EmployeeFraudFeatures(1L);
+        features.add(claim("Checkup", NOW.minusDays(7)));
+        features.add(claim("Checkup", NOW.minusDays(6)));
+        features.add(claim("Checkup", NOW));
+        assertFalse(rule.matches(context("Checkup", features), parameters));
+
+        features.add(claim("Checkup", NOW.minusDays(6)));
+        assertTrue(rule.matches(context("Checkup", features), parameters));
+    }
+
+    @Test
+    void repeatedProcedureCountsOnlyTheLastThirtyCalendarDays() {
+        RepeatedProcedureRule rule = new RepeatedProcedureRule();
+        FraudRuleParameters parameters = new FraudRuleParameters(1.0, 2.0, 30);
+
+        EmployeeFraudFeatures features = new EmployeeFraudFeatures(1L);
+        features.add(claim("MRI", NOW.minusDays(30)));
+        features.add(claim("MRI", NOW));
+        assertFalse(rule.matches(context("MRI", features), parameters));
+
+        features.add(claim("MRI", NOW.minusDays(29)));
+        assertTrue(rule.matches(context("MRI", features), parameters));
+    }
+
+    private FraudContext context(String title, EmployeeFraudFeatures features) {
+        return new FraudContext(claim(title, NOW), features, NOW);
+    }
+
+    private Claim claim(String title, LocalDateTime at) {
+        Claim claim = new Claim();
+        ReflectionTestUtils.setField(claim, "id", nextId++);
+        claim.setTitle(title);
+        claim.setClaimDate(at);
+        claim.setCreatedAt(at);
+        return claim;
+    }
+}
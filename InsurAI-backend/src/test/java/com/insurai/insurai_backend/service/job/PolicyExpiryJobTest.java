@@ -0,0 +1,81 @@
+package com.insurai.insurai_backend.service.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.insurai.insurai_backend.model.Policy;
+import com.insurai.insurai_backend.repository.PolicyRepository;
+import com.insurai.insurai_backend.service.EmailOutboxService;
+import com.insurai.insurai_backend.service.InAppNotificationService;
+import com.insurai.insurai_backend.service.NotificationService;
+import com.insurai.insurai_backend.service.PolicyCatalogCache;
+
+// Not wrapped in a test transaction: the read and the chunk transaction must be separate, as in a real run
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PolicyExpiryJob.class)
+class PolicyExpiryJobTest {
+
+    @MockitoBean private InAppNotificationService inAppNotificationService;
+    @MockitoBean private NotificationService notificationService;
+    @MockitoBean private EmailOutboxService emailOutboxService;
+    @MockitoBean private PolicyCatalogCache policyCatalogCache;
+
+    @Autowired
+    private PolicyExpiryJob job;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM renewal_history");
+        policyRepository.deleteAll();
+    }
+
+    @Test
+    void policyRenewedAfterTheReadIsNotExpired() {
+        Policy lapsed = policyRepository.save(policy("POL-1"));
+        Policy renewed = policyRepository.save(policy("POL-2"));
+
+        List<Policy> chunk = job.readChunk(0, 10);
+        assertEquals(2, chunk.size());
+
+        // A renewal commits between the job's read and its chunk transaction
+        Policy fresh = policyRepository.findById(renewed.getId()).orElseThrow();
+        fresh.setRenewalDate(LocalDate.now().plusYears(1));
+        policyRepository.save(fresh);
+
+        List<Policy> written = transactionTemplate.execute(status -> job.writeChunk(chunk));
+
+        assertEquals(List.of(lapsed.getId()), written.stream().map(Policy::getId).toList());
+        assertEquals("Expired", policyRepository.findById(lapsed.getId()).orElseThrow().getPolicyStatus());
+        assertEquals("Active", policyRepository.findById(renewed.getId()).orElseThrow().getPolicyStatus());
+        assertEquals(List.of(lapsed.getId()),
+                jdbcTemplate.queryForList("SELECT policy_id FROM renewal_history WHERE renewal_type = 'Expiry'", Long.class));
+    }
+
+    private static Policy policy(String number) {
+        return new Policy(number, "Gold Health", "Health", "Acme", 100_000.0, 500.0,
+                LocalDate.now().minusYears(1), LocalDate.now().minusDays(1), "Active", null, null, null, null, null);
+    }
+}